@@ -0,0 +1,101 @@
+package br.com.riannegreiros.AiTaskApp.auth.service;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import br.com.riannegreiros.AiTaskApp.auth.model.User;
+import br.com.riannegreiros.AiTaskApp.benchmark.BenchmarkData;
+import br.com.riannegreiros.AiTaskApp.config.SecurityConfig;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    @Param({"RS256", "ES256"})
+    private String algorithm;
+
+    private UserService userService;
+    private JwtDecoder jwtDecoder;
+    private JwtDecoder uncachedJwtDecoder;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        KeyPairGenerator rsaGenerator = KeyPairGenerator.getInstance("RSA");
+        rsaGenerator.initialize(2048);
+        KeyPair rsaKeyPair = rsaGenerator.generateKeyPair();
+        KeyPair ecKeyPair = ecKeyPair();
+
+        SecurityConfig securityConfig = new SecurityConfig();
+        ReflectionTestUtils.setField(securityConfig, "publicKey", rsaKeyPair.getPublic());
+        ReflectionTestUtils.setField(securityConfig, "privateKey", rsaKeyPair.getPrivate());
+        ReflectionTestUtils.setField(securityConfig, "algorithm",
+                SignatureAlgorithm.from(algorithm));
+        ReflectionTestUtils.setField(securityConfig, "ecPublicKey",
+                pem("PUBLIC KEY", ecKeyPair.getPublic().getEncoded()));
+        ReflectionTestUtils.setField(securityConfig, "ecPrivateKey",
+                pem("PRIVATE KEY", ecKeyPair.getPrivate().getEncoded()));
+        ReflectionTestUtils.setField(securityConfig, "acceptRsaUntil", "");
+        ReflectionTestUtils.setField(securityConfig, "jwtCacheSize", 0L);
+        uncachedJwtDecoder = securityConfig.jwtDecoder(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(securityConfig, "jwtCacheSize", 10_000L);
+        jwtDecoder = securityConfig.jwtDecoder(new SimpleMeterRegistry());
+        userService = new UserService(null, null, securityConfig.jwtEncoder(), jwtDecoder,
+                null, null, null);
+
+        user = BenchmarkData.user();
+        token = userService.generateJwt(user, 1800L, "access");
+    }
+
+    @Benchmark
+    public String generateJwt() {
+        return userService.generateJwt(user, 1800L, "access");
+    }
+
+    @Benchmark
+    public Jwt decodeJwt() {
+        return uncachedJwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt decodeCachedJwt() {
+        return jwtDecoder.decode(token);
+    }
+
+    private static KeyPair ecKeyPair() throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private static ByteArrayResource pem(String type, byte[] encoded) {
+        return new ByteArrayResource(("-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(encoded) + "\n-----END " + type
+                + "-----\n").getBytes());
+    }
+}
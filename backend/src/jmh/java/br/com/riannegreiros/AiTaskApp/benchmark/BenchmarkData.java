@@ -0,0 +1,66 @@
+package br.com.riannegreiros.AiTaskApp.benchmark;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import br.com.riannegreiros.AiTaskApp.auth.model.User;
+import br.com.riannegreiros.AiTaskApp.tags.model.Tag;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TagSummary;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Priority;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Task;
+
+public final class BenchmarkData {
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2025, 1, 1, 9, 0, 0, 0,
+            ZoneOffset.UTC);
+
+    private BenchmarkData() {}
+
+    public static User user() {
+        User user = new User("Jane Doe", "jane.doe@mail.com", "secret");
+        user.setId(1L);
+        return user;
+    }
+
+    public static List<Tag> tags(User user, int count) {
+        List<Tag> tags = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Tag tag = new Tag("tag-" + i, user);
+            tag.setId((long) i + 1);
+            tags.add(tag);
+        }
+        return tags;
+    }
+
+    public static List<Task> tasks(User user, List<Tag> tags, int count) {
+        Random random = new Random(42);
+        Priority[] priorities = Priority.values();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task("Task " + i, priorities[random.nextInt(priorities.length)],
+                    random.nextBoolean() ? NOW.plusDays(random.nextInt(60) - 30) : null, user,
+                    random.nextInt(4) == 0 ? null : "Description for task " + i);
+            task.setId((long) i + 1);
+            if (random.nextInt(3) == 0) {
+                task.toggleTaskCompleted();
+            }
+            int tagCount = random.nextInt(4);
+            for (int t = 0; t < tagCount && !tags.isEmpty(); t++) {
+                task.getTags().add(tags.get(random.nextInt(tags.size())));
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    public static TaskResponse taskResponse() {
+        LocalDateTime created = NOW.toLocalDateTime();
+        return new TaskResponse("1234", "1", "Prepare quarterly report", Priority.HIGH,
+                NOW.plusDays(3), false, "Collect numbers from finance and draft the summary",
+                List.of(new TagSummary(1L, "work"), new TagSummary(2L, "urgent")), created,
+                created.plusHours(2));
+    }
+}
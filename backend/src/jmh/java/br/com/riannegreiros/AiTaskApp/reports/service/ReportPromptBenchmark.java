@@ -0,0 +1,51 @@
+package br.com.riannegreiros.AiTaskApp.reports.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import br.com.riannegreiros.AiTaskApp.auth.model.User;
+import br.com.riannegreiros.AiTaskApp.benchmark.BenchmarkData;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TagUsage;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskStatsResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Task;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportPromptBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private ReportService reportService;
+    private TaskStatsResponse stats;
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        User user = BenchmarkData.user();
+        tasks = BenchmarkData.tasks(user, BenchmarkData.tags(user, 20), size);
+        long completed = tasks.stream().filter(Task::isCompleted).count();
+        stats = new TaskStatsResponse(size, completed, size - completed, size / 10, size / 20,
+                List.of(new TagUsage(1L, "tag-0", size / 5), new TagUsage(2L, "tag-1", size / 6)));
+        reportService = new ReportService(null, null, null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public String buildPrompt() {
+        return reportService.buildPrompt(stats, tasks);
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.riannegreiros.AiTaskApp.tasks.dto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import br.com.riannegreiros.AiTaskApp.auth.model.User;
+import br.com.riannegreiros.AiTaskApp.benchmark.BenchmarkData;
+import br.com.riannegreiros.AiTaskApp.tags.model.Tag;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Task;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskPageFormatBenchmark {
+
+    @Param({"JSON", "COMPACT_JSON", "CBOR", "COMPACT_CBOR"})
+    private String format;
+
+    private ObjectMapper mapper;
+    private boolean compact;
+    private TaskPageResponse page;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = format.endsWith("CBOR") ? new CBORMapper() : JsonMapper.builder().build();
+        compact = format.startsWith("COMPACT");
+
+        User user = BenchmarkData.user();
+        List<Tag> tags = BenchmarkData.tags(user, 10);
+        List<TaskResponse> items = BenchmarkData.tasks(user, tags, 200).stream()
+                .map(TaskPageFormatBenchmark::toResponse).toList();
+        page = new TaskPageResponse(items, "Q1JFQVRFRF9BVHwyMDI1LTAxLTAxVDA5OjAwfDEyMzQ");
+
+        byte[] body = serialize();
+        System.out.printf("%n%s: %d bytes, %d gzipped%n", format, body.length, gzip(body));
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return mapper.writeValueAsBytes(compact ? CompactTaskPageResponse.of(page) : page);
+    }
+
+    private static TaskResponse toResponse(Task task) {
+        TaskResponse sample = BenchmarkData.taskResponse();
+        List<TagSummary> tags = task.getTags().stream()
+                .map(tag -> new TagSummary(tag.getId(), tag.getName())).toList();
+        return new TaskResponse(task.getId().toString(), task.getUser().getId().toString(),
+                task.getTitle(), task.getPriority(), task.getDueDate(), task.isCompleted(),
+                task.getDescription(), tags, sample.createdAt(), sample.updatedAt());
+    }
+
+    private static int gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(body);
+        }
+        return buffer.size();
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.riannegreiros.AiTaskApp.tasks.dto;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import br.com.riannegreiros.AiTaskApp.benchmark.BenchmarkData;
+import tools.jackson.databind.json.JsonMapper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskResponseSerializationBenchmark {
+
+    private JsonMapper jsonMapper;
+    private TaskResponse task;
+    private TaskPageResponse page;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        task = BenchmarkData.taskResponse();
+        List<TaskResponse> items = Collections.nCopies(200, task);
+        page = new TaskPageResponse(items, "Q1JFQVRFRF9BVHwyMDI1LTAxLTAxVDA5OjAwfDEyMzQ");
+    }
+
+    @Benchmark
+    public byte[] serializeTask() {
+        return jsonMapper.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public byte[] serializePage() {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+}
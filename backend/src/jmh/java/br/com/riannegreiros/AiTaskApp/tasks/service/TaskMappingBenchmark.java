@@ -0,0 +1,46 @@
+package br.com.riannegreiros.AiTaskApp.tasks.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import br.com.riannegreiros.AiTaskApp.auth.model.User;
+import br.com.riannegreiros.AiTaskApp.benchmark.BenchmarkData;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Task;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMappingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private TaskService taskService;
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        User user = BenchmarkData.user();
+        tasks = BenchmarkData.tasks(user, BenchmarkData.tags(user, 20), size);
+        taskService = new TaskService(null, null, null, null, null, null, 2592000L, null);
+    }
+
+    @Benchmark
+    public List<TaskResponse> toResponse() {
+        return tasks.stream().map(taskService::toResponse).toList();
+    }
+}
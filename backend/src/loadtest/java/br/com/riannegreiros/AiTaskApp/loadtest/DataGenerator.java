@@ -0,0 +1,291 @@
+package br.com.riannegreiros.AiTaskApp.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+public class DataGenerator {
+    public static final String PASSWORD = "loadtest-password";
+
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "CRITICAL"};
+    private static final double[] PRIORITY_WEIGHTS =
+            cumulative(new double[] {0.30, 0.40, 0.20, 0.10});
+    private static final String[] TAG_NAMES = {"work", "personal", "urgent", "backend", "frontend",
+            "meeting", "errand", "health", "finance", "study", "home", "travel", "ops", "review",
+            "design", "docs", "family", "shopping", "ideas", "later"};
+    private static final String[] VERBS = {"Review", "Write", "Fix", "Plan", "Call", "Update",
+            "Prepare", "Refactor", "Book", "Clean up", "Draft", "Schedule"};
+    private static final String[] OBJECTS = {"API documentation", "quarterly report", "login bug",
+            "sprint demo", "dentist appointment", "database backup", "team meeting notes",
+            "budget spreadsheet", "release checklist", "onboarding guide", "flight tickets",
+            "dependency upgrades"};
+
+    public record Options(String emailPrefix, int users, int tasksPerUser, int tagsPerUser,
+            double skew, int batchSize, long seed) {
+    }
+
+    public record Result(List<String> emails, long tasks, long taskTags, Duration elapsed) {
+    }
+
+    private final Options options;
+    private final Random random;
+
+    public DataGenerator(Options options) {
+        this.options = options;
+        this.random = new Random(options.seed());
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Options options = new Options(property("loadtest.email-prefix", "loadtest"),
+                Integer.parseInt(property("loadtest.users", "1000")),
+                Integer.parseInt(property("loadtest.tasks-per-user", "50")),
+                Integer.parseInt(property("loadtest.tags-per-user", "8")),
+                Double.parseDouble(property("loadtest.skew", "1.1")),
+                Integer.parseInt(property("loadtest.batch-size", "1000")),
+                Long.parseLong(property("loadtest.seed", "42")));
+        try (Connection connection = DriverManager.getConnection(
+                property("loadtest.jdbc-url", "jdbc:postgresql://localhost:5432/backend_db"),
+                property("loadtest.jdbc-user", "postgres"),
+                property("loadtest.jdbc-password", "postgres"))) {
+            Result result = new DataGenerator(options).generate(connection);
+            System.out.printf("Generated %d users, %d tasks and %d task tags in %s%n",
+                    result.emails().size(), result.tasks(), result.taskTags(), result.elapsed());
+        }
+    }
+
+    public Result generate(Connection connection) throws SQLException {
+        Instant start = Instant.now();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            List<String> emails = insertUsers(connection);
+            long[] userIds = selectUserIds(connection);
+            insertTags(connection, userIds);
+            long[] counts = insertTasks(connection, userIds);
+            insertDerivedRows(connection);
+            connection.commit();
+            return new Result(emails, counts[0], counts[1], Duration.between(start, Instant.now()));
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private List<String> insertUsers(Connection connection) throws SQLException {
+        String hash = new BCryptPasswordEncoder().encode(PASSWORD);
+        List<String> emails = new ArrayList<>(options.users());
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO tb_users (name, email, password) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < options.users(); i++) {
+                String email = options.emailPrefix() + "-" + i + "@loadtest.local";
+                emails.add(email);
+                insert.setString(1, "Load Test User " + i);
+                insert.setString(2, email);
+                insert.setString(3, hash);
+                addToBatch(insert, i);
+            }
+            insert.executeBatch();
+        }
+        return emails;
+    }
+
+    private long[] selectUserIds(Connection connection) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id FROM tb_users WHERE email LIKE ? ORDER BY id")) {
+            select.setString(1, options.emailPrefix() + "-%@loadtest.local");
+            List<Long> ids = new ArrayList<>(options.users());
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    ids.add(rows.getLong(1));
+                }
+            }
+            return ids.stream().mapToLong(Long::longValue).toArray();
+        }
+    }
+
+    private void insertTags(Connection connection, long[] userIds) throws SQLException {
+        int tagsPerUser = Math.min(options.tagsPerUser(), TAG_NAMES.length);
+        try (PreparedStatement insert = connection
+                .prepareStatement("INSERT INTO tb_tags (name, user_id) VALUES (?, ?)")) {
+            int row = 0;
+            for (long userId : userIds) {
+                for (int t = 0; t < tagsPerUser; t++) {
+                    insert.setString(1, TAG_NAMES[t]);
+                    insert.setLong(2, userId);
+                    addToBatch(insert, row++);
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private long[] insertTasks(Connection connection, long[] userIds) throws SQLException {
+        long nextId = scalar(connection, "SELECT COALESCE(MAX(id), 0) + 1 FROM tb_tasks");
+        double[] userWeights = zipfWeights(userIds.length, options.skew());
+        shuffle(userWeights);
+        long totalTasks = (long) userIds.length * options.tasksPerUser();
+        double[] tagWeights = cumulative(zipfWeights(
+                Math.min(options.tagsPerUser(), TAG_NAMES.length), options.skew()));
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+
+        long tasks = 0;
+        long taskTags = 0;
+        try (PreparedStatement insertTask = connection.prepareStatement("""
+                INSERT INTO tb_tasks (id, user_id, title, description, priority, due_date,
+                    completed, created_at, updated_at, change_seq)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)""");
+                PreparedStatement insertTag = connection.prepareStatement("""
+                        INSERT INTO tb_task_tags (task_id, tag_id)
+                        SELECT ?, id FROM tb_tags WHERE user_id = ? AND name = ?""")) {
+            for (int u = 0; u < userIds.length; u++) {
+                int count = (int) Math.round(totalTasks * userWeights[u]);
+                for (int i = 0; i < count; i++) {
+                    long taskId = nextId++;
+                    LocalDateTime createdAt = now.minusMinutes(random.nextInt(180 * 24 * 60))
+                            .toLocalDateTime();
+                    insertTask.setLong(1, taskId);
+                    insertTask.setLong(2, userIds[u]);
+                    insertTask.setString(3, VERBS[random.nextInt(VERBS.length)] + " "
+                            + OBJECTS[random.nextInt(OBJECTS.length)]);
+                    insertTask.setString(4,
+                            random.nextInt(3) == 0 ? null : "Generated task " + taskId);
+                    insertTask.setString(5, PRIORITIES[pick(PRIORITY_WEIGHTS)]);
+                    insertTask.setObject(6, random.nextInt(5) < 3
+                            ? now.plusHours(random.nextInt(60 * 24) - 30 * 24) : null);
+                    insertTask.setBoolean(7, random.nextInt(10) < 4);
+                    insertTask.setTimestamp(8, Timestamp.valueOf(createdAt));
+                    insertTask.setTimestamp(9, Timestamp.valueOf(createdAt));
+                    addToBatch(insertTask, tasks++);
+
+                    for (String tag : pickTags(tagWeights)) {
+                        insertTag.setLong(1, taskId);
+                        insertTag.setLong(2, userIds[u]);
+                        insertTag.setString(3, tag);
+                        insertTag.addBatch();
+                        taskTags++;
+                    }
+                }
+                if (u % 50 == 49) {
+                    insertTask.executeBatch();
+                    insertTag.executeBatch();
+                }
+            }
+            insertTask.executeBatch();
+            insertTag.executeBatch();
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER SEQUENCE tb_tasks_id_seq RESTART WITH " + (nextId + 50));
+        }
+        return new long[] {tasks, taskTags};
+    }
+
+    private void insertDerivedRows(Connection connection) throws SQLException {
+        String users = "SELECT id FROM tb_users WHERE email LIKE ?";
+        String[] statements = {"""
+                INSERT INTO tb_task_stats (user_id, total, completed, critical_pending, updated_at)
+                SELECT u.id, COUNT(t.id),
+                       SUM(CASE WHEN t.completed THEN 1 ELSE 0 END),
+                       SUM(CASE WHEN NOT t.completed AND t.priority = 'CRITICAL' THEN 1 ELSE 0 END),
+                       CURRENT_TIMESTAMP
+                FROM tb_users u LEFT JOIN tb_tasks t ON t.user_id = u.id
+                WHERE u.id IN (""" + users + ") GROUP BY u.id", """
+                INSERT INTO tb_task_tag_stats (tag_id, user_id, task_count)
+                SELECT g.id, g.user_id, COUNT(tt.task_id)
+                FROM tb_tags g LEFT JOIN tb_task_tags tt ON tt.tag_id = g.id
+                WHERE g.user_id IN (""" + users + ") GROUP BY g.id, g.user_id", """
+                INSERT INTO tb_collection_versions (user_id, tasks_version, tags_version,
+                    reports_version)
+                SELECT id, 0, 0, 0 FROM tb_users WHERE id IN (""" + users + ")"};
+        for (String sql : statements) {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setString(1, options.emailPrefix() + "-%@loadtest.local");
+                statement.executeUpdate();
+            }
+        }
+    }
+
+    private Set<String> pickTags(double[] tagWeights) {
+        int count = random.nextInt(4);
+        Set<String> tags = new LinkedHashSet<>();
+        for (int i = 0; i < count && tagWeights.length > 0; i++) {
+            tags.add(TAG_NAMES[pick(tagWeights)]);
+        }
+        return tags;
+    }
+
+    private int pick(double[] cumulative) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+    private void shuffle(double[] values) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            double value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    private void addToBatch(PreparedStatement statement, long row) throws SQLException {
+        statement.addBatch();
+        if (row % options.batchSize() == options.batchSize() - 1) {
+            statement.executeBatch();
+        }
+    }
+
+    private static double[] zipfWeights(int size, double skew) {
+        double[] weights = new double[size];
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            weights[i] = 1 / Math.pow(i + 1, skew);
+            sum += weights[i];
+        }
+        for (int i = 0; i < size; i++) {
+            weights[i] /= sum;
+        }
+        return weights;
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        return cumulative;
+    }
+
+    private static long scalar(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery(sql)) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    static String property(String name, String defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,235 @@
+package br.com.riannegreiros.AiTaskApp.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+public class LoadScenario {
+
+    public enum Operation {
+        REGISTER(2), LOGIN(5), LIST(40), CREATE(20), TOGGLE(20), REPORT(13);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    public record OperationStats(String operation, int requests, int errors, double throughput,
+            double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+    }
+
+    public record Report(int virtualUsers, long durationSeconds, int requests, int errors,
+            double throughput, List<OperationStats> operations) {
+    }
+
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int size;
+        private int errors;
+
+        synchronized void record(long nanos, boolean ok) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        synchronized OperationStats stats(Operation operation, double seconds) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new OperationStats(operation.name(), size, errors, size / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    percentile(sorted, 1.0));
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+
+    private final String baseUrl;
+    private final List<String> emails;
+    private final int virtualUsers;
+    private final Duration duration;
+    private final long seed;
+    private final HttpClient http = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+    private final JsonMapper json = JsonMapper.builder().build();
+    private final Map<Operation, Recorder> recorders = new ConcurrentHashMap<>();
+    private final AtomicInteger registrations = new AtomicInteger();
+
+    public LoadScenario(String baseUrl, List<String> emails, int virtualUsers, Duration duration,
+            long seed) {
+        this.baseUrl = baseUrl;
+        this.emails = emails;
+        this.virtualUsers = virtualUsers;
+        this.duration = duration;
+        this.seed = seed;
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder());
+        }
+    }
+
+    public Report run() {
+        Instant deadline = Instant.now().plus(duration);
+        Instant start = Instant.now();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < virtualUsers; i++) {
+                Random random = new Random(seed + i);
+                executor.submit(() -> virtualUser(random, deadline));
+            }
+        }
+        double seconds = Duration.between(start, Instant.now()).toMillis() / 1000.0;
+
+        List<OperationStats> operations = new ArrayList<>();
+        int requests = 0;
+        int errors = 0;
+        for (Operation operation : Operation.values()) {
+            OperationStats stats = recorders.get(operation).stats(operation, seconds);
+            operations.add(stats);
+            requests += stats.requests();
+            errors += stats.errors();
+        }
+        return new Report(virtualUsers, duration.toSeconds(), requests, errors,
+                requests / seconds, operations);
+    }
+
+    private void virtualUser(Random random, Instant deadline) {
+        String email = emails.get(random.nextInt(emails.size()));
+        String token = login(email);
+        List<String> taskIds = new ArrayList<>();
+
+        while (Instant.now().isBefore(deadline)) {
+            try {
+                switch (pick(random)) {
+                    case REGISTER -> {
+                        String newEmail = "loadtest-new-" + registrations.incrementAndGet() + "-"
+                                + seed + "@loadtest.local";
+                        if (register(newEmail) != null) {
+                            String newToken = login(newEmail);
+                            if (newToken != null) {
+                                email = newEmail;
+                                token = newToken;
+                                taskIds.clear();
+                            }
+                        }
+                    }
+                    case LOGIN -> {
+                        String newToken = login(email);
+                        token = newToken != null ? newToken : token;
+                    }
+                    case LIST -> {
+                        JsonNode page = send(Operation.LIST, get("/api/tasks/me?size=50", token));
+                        if (page != null) {
+                            taskIds.clear();
+                            page.get("items")
+                                    .forEach(task -> taskIds.add(task.get("id").asString()));
+                        }
+                    }
+                    case CREATE -> {
+                        JsonNode task = send(Operation.CREATE, post("/api/tasks", token, Map.of(
+                                "title", "Load test task " + random.nextInt(1_000_000),
+                                "priority", List.of("LOW", "MEDIUM", "HIGH", "CRITICAL")
+                                        .get(random.nextInt(4)))));
+                        if (task != null) {
+                            taskIds.add(task.get("id").asString());
+                        }
+                    }
+                    case TOGGLE -> {
+                        if (!taskIds.isEmpty()) {
+                            String id = taskIds.get(random.nextInt(taskIds.size()));
+                            send(Operation.TOGGLE, request("/api/tasks/me/" + id, token)
+                                    .method("PATCH", HttpRequest.BodyPublishers.noBody()).build());
+                        }
+                    }
+                    case REPORT -> send(Operation.REPORT, random.nextBoolean()
+                            ? get("/api/reports/me", token)
+                            : post("/api/reports/me", token, Map.of()));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private String login(String email) {
+        try {
+            JsonNode auth = send(Operation.LOGIN, post("/api/auth/login", null,
+                    Map.of("email", email, "password", DataGenerator.PASSWORD)));
+            return auth != null ? auth.get("token").asString() : null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private JsonNode register(String email) throws InterruptedException {
+        return send(Operation.REGISTER, post("/api/auth/register", null, Map.of("name",
+                "Load Test User", "email", email, "password", DataGenerator.PASSWORD)));
+    }
+
+    private JsonNode send(Operation operation, HttpRequest request) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean ok = response.statusCode() / 100 == 2;
+            recorders.get(operation).record(System.nanoTime() - start, ok);
+            return ok && !response.body().isEmpty() ? json.readTree(response.body()) : null;
+        } catch (IOException e) {
+            recorders.get(operation).record(System.nanoTime() - start, false);
+            return null;
+        }
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, Map<String, Object> body) {
+        return request(path, token).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json.writeValueAsString(body))).build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        return token != null ? builder.header("Authorization", "Bearer " + token) : builder;
+    }
+
+    private static Operation pick(Random random) {
+        int total = Arrays.stream(Operation.values()).mapToInt(op -> op.weight).sum();
+        int roll = random.nextInt(total);
+        for (Operation operation : Operation.values()) {
+            roll -= operation.weight;
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return Operation.LIST;
+    }
+}
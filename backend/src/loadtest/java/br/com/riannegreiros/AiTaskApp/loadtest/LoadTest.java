@@ -0,0 +1,126 @@
+package br.com.riannegreiros.AiTaskApp.loadtest;
+
+import static br.com.riannegreiros.AiTaskApp.loadtest.DataGenerator.property;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import br.com.riannegreiros.AiTaskApp.AiTaskAppApplication;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+public class LoadTest {
+    private static final String EMBEDDED_URL =
+            "jdbc:h2:mem:loadtest;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    public static void main(String[] args)
+            throws IOException, NoSuchAlgorithmException, SQLException {
+        String jdbcUrl = property("loadtest.jdbc-url", "embedded");
+        int virtualUsers = Integer.parseInt(property("loadtest.virtual-users", "50"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(property("loadtest.duration", "60")));
+        long seed = Long.parseLong(property("loadtest.seed", "42"));
+        Path result = Path.of(property("loadtest.result", "target/loadtest-result.json"));
+
+        MapPropertySource overrides =
+                new MapPropertySource("loadtest", applicationProperties(jdbcUrl));
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(
+                AiTaskAppApplication.class, LoadTestConfiguration.class)
+                .initializers(context -> context.getEnvironment().getPropertySources()
+                        .addFirst(overrides))
+                .run()) {
+            DataGenerator.Options options = new DataGenerator.Options("loadtest-" + seed,
+                    Integer.parseInt(property("loadtest.users", "1000")),
+                    Integer.parseInt(property("loadtest.tasks-per-user", "50")),
+                    Integer.parseInt(property("loadtest.tags-per-user", "8")),
+                    Double.parseDouble(property("loadtest.skew", "1.1")),
+                    Integer.parseInt(property("loadtest.batch-size", "1000")), seed);
+            DataGenerator.Result data;
+            try (Connection connection = app.getBean(DataSource.class).getConnection()) {
+                data = new DataGenerator(options).generate(connection);
+            }
+            System.out.printf("Generated %d users, %d tasks and %d task tags in %s%n",
+                    data.emails().size(), data.tasks(), data.taskTags(), data.elapsed());
+
+            String port = app.getEnvironment().getProperty("local.server.port");
+            LoadScenario.Report report = new LoadScenario("http://localhost:" + port,
+                    data.emails(), virtualUsers, duration, seed).run();
+            print(report);
+
+            Files.createDirectories(result.toAbsolutePath().getParent());
+            JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build()
+                    .writeValue(result.toFile(), report);
+            System.out.println("Results written to " + result);
+        }
+    }
+
+    private static Map<String, Object> applicationProperties(String jdbcUrl)
+            throws IOException, NoSuchAlgorithmException {
+        Map<String, Object> properties = new HashMap<>();
+        boolean embedded = jdbcUrl.equals("embedded");
+        properties.put("spring.datasource.url", embedded ? EMBEDDED_URL : jdbcUrl);
+        properties.put("spring.datasource.driver-class-name",
+                embedded ? "org.h2.Driver" : "org.postgresql.Driver");
+        properties.put("spring.datasource.username",
+                property("loadtest.jdbc-user", embedded ? "sa" : "postgres"));
+        properties.put("spring.datasource.password",
+                property("loadtest.jdbc-password", embedded ? "" : "postgres"));
+        if (embedded) {
+            properties.put("spring.flyway.enabled", false);
+            properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        }
+        properties.put("server.port", 0);
+        properties.put("management.server.port", -1);
+        properties.put("spring.ai.model.chat", "stub");
+        properties.put("spring.ai.openai.api-key", "offline");
+        properties.put("app.ai.requests-per-second", 1000);
+        properties.put("spring.threads.virtual.enabled",
+                property("loadtest.virtual-threads", "false"));
+        properties.put("loadtest.ai-latency", property("loadtest.ai-latency", "200"));
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        Path keys = Files.createTempDirectory("loadtest-keys");
+        Path publicKey = keys.resolve("app.pub");
+        Path privateKey = keys.resolve("app.key");
+        Files.writeString(publicKey, pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+        Files.writeString(privateKey, pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        publicKey.toFile().deleteOnExit();
+        privateKey.toFile().deleteOnExit();
+        keys.toFile().deleteOnExit();
+        properties.put("jwt.public.key", publicKey.toUri().toString());
+        properties.put("jwt.private.key", privateKey.toUri().toString());
+        return properties;
+    }
+
+    private static String pem(String type, byte[] encoded) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(encoded)
+                + "\n-----END " + type + "-----\n";
+    }
+
+    private static void print(LoadScenario.Report report) {
+        System.out.printf("%n%d virtual users for %ds: %d requests, %d errors, %.1f req/s%n%n",
+                report.virtualUsers(), report.durationSeconds(), report.requests(),
+                report.errors(), report.throughput());
+        System.out.printf("%-10s %9s %7s %9s %9s %9s %9s %9s%n", "operation", "requests",
+                "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (LoadScenario.OperationStats stats : report.operations()) {
+            System.out.printf("%-10s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", stats.operation(),
+                    stats.requests(), stats.errors(), stats.throughput(), stats.p50Millis(),
+                    stats.p90Millis(), stats.p99Millis(), stats.maxMillis());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.riannegreiros.AiTaskApp.loadtest;
+
+import java.time.Duration;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+
+public class LoadTestConfiguration {
+
+    @Bean
+    ChatModel stubChatModel(@Value("${loadtest.ai-latency:200}") long latencyMillis) {
+        return new StubChatModel(Duration.ofMillis(latencyMillis));
+    }
+}
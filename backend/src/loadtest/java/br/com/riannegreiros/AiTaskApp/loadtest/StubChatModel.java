@@ -0,0 +1,43 @@
+package br.com.riannegreiros.AiTaskApp.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import reactor.core.publisher.Flux;
+
+public class StubChatModel implements ChatModel {
+    private static final List<String> REPORT = List.of("You have a solid week ahead. ",
+            "Focus first on your critical tasks, then the ones due soonest. ",
+            "Watch the overdue items and block time for them early. ",
+            "Tip: finish one small task before lunch to build momentum.");
+
+    private final Duration latency;
+
+    public StubChatModel(Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return response(String.join("", REPORT));
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        return Flux.fromIterable(REPORT).delayElements(latency.dividedBy(REPORT.size()))
+                .map(StubChatModel::response);
+    }
+
+    private static ChatResponse response(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+}
@@ -0,0 +1,4 @@
+package br.com.riannegreiros.AiTaskApp.ai.dto;
+
+public record PromptCacheStats(long hits, long misses, long size) {
+}
@@ -0,0 +1,57 @@
+package br.com.riannegreiros.AiTaskApp.ai.model;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "tb_ai_prompt_cache")
+public class PromptCacheEntry {
+    @Id
+    @Column(name = "prompt_hash")
+    private String promptHash;
+
+    private String model;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    public PromptCacheEntry() {}
+
+    public PromptCacheEntry(String promptHash, String model, String content,
+            LocalDateTime expiresAt) {
+        this.promptHash = promptHash;
+        this.model = model;
+        this.content = content;
+        this.createdAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+    }
+
+    public String getPromptHash() {
+        return promptHash;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.riannegreiros.AiTaskApp.ai.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import br.com.riannegreiros.AiTaskApp.ai.model.PromptCacheEntry;
+
+@Repository
+public interface PromptCacheRepository extends JpaRepository<PromptCacheEntry, String> {
+    Optional<PromptCacheEntry> findByPromptHashAndExpiresAtAfter(String promptHash,
+            LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PromptCacheEntry e WHERE e.expiresAt <= :now")
+    int deleteExpired(LocalDateTime now);
+}
@@ -1,24 +1,118 @@
 package br.com.riannegreiros.AiTaskApp.ai.service;
 
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 import br.com.riannegreiros.AiTaskApp.ai.dto.AiResponse;
 import br.com.riannegreiros.AiTaskApp.infra.exception.AiServiceException;
+import br.com.riannegreiros.AiTaskApp.infra.ratelimit.RateLimiter;
 
 @Service
 public class AiService {
     private final ChatClient chatClient;
+    private final RateLimiter rateLimiter;
+    private final PromptCache promptCache;
+    private final String model;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary promptSize;
+    private final DistributionSummary responseSize;
 
-    public AiService(ChatClient.Builder chatClientBuilder) {
+    public AiService(ChatClient.Builder chatClientBuilder, PromptCache promptCache,
+            @Value("${app.ai.requests-per-second}") double requestsPerSecond,
+            @Value("${spring.ai.openai.chat.options.model}") String model,
+            MeterRegistry meterRegistry) {
         this.chatClient = chatClientBuilder.build();
+        this.rateLimiter = new RateLimiter(requestsPerSecond);
+        this.promptCache = promptCache;
+        this.model = model;
+        this.meterRegistry = meterRegistry;
+        this.promptSize = DistributionSummary.builder("ai.prompt.size").baseUnit("characters")
+                .description("Length of prompts sent to the model").tag("model", model)
+                .register(meterRegistry);
+        this.responseSize = DistributionSummary.builder("ai.response.size").baseUnit("characters")
+                .description("Length of model responses").tag("model", model)
+                .register(meterRegistry);
+        FunctionCounter.builder("ai.prompt.cache.requests", promptCache, c -> c.stats().hits())
+                .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("ai.prompt.cache.requests", promptCache, c -> c.stats().misses())
+                .tag("result", "miss").register(meterRegistry);
     }
 
     public AiResponse processPrompt(String prompt) {
+        String key = promptCache.key(model, prompt);
+        Optional<String> cached = promptCache.get(key);
+        if (cached.isPresent()) {
+            return new AiResponse(cached.get());
+        }
+
+        acquirePermit();
+        promptSize.record(prompt.length());
+
+        long start = System.nanoTime();
+        String content;
         try {
-            String content = chatClient.prompt().user(prompt).call().content();
-            return new AiResponse(content);
+            content = chatClient.prompt().user(prompt).call().content();
         } catch (Exception e) {
+            recordCall("call", "error", start);
             throw new AiServiceException("Failed to process AI prompt");
         }
+        recordCall("call", "success", start);
+        responseSize.record(content != null ? content.length() : 0);
+        promptCache.put(key, model, content);
+        return new AiResponse(content);
+    }
+
+    public Flux<String> streamPrompt(String prompt) {
+        return Flux.defer(() -> streamUncached(prompt)).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Flux<String> streamUncached(String prompt) {
+        String key = promptCache.key(model, prompt);
+        Optional<String> cached = promptCache.get(key);
+        if (cached.isPresent()) {
+            return Flux.just(cached.get());
+        }
+
+        acquirePermit();
+        promptSize.record(prompt.length());
+
+        long start = System.nanoTime();
+        StringBuilder content = new StringBuilder();
+        return chatClient.prompt().user(prompt).stream().content().doOnNext(content::append)
+                .doOnComplete(() -> {
+                    recordCall("stream", "success", start);
+                    responseSize.record(content.length());
+                    promptCache.put(key, model, content.toString());
+                }).doOnError(e -> recordCall("stream", "error", start))
+                .onErrorMap(e -> new AiServiceException("Failed to stream AI prompt"));
+    }
+
+    private void recordCall(String mode, String outcome, long start) {
+        Timer.builder("ai.prompt").description("Latency of model calls that missed the cache")
+                .tags("model", model, "mode", mode, "outcome", outcome)
+                .publishPercentileHistogram().register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (outcome.equals("error")) {
+            Counter.builder("ai.prompt.errors").description("Failed model calls")
+                    .tags("model", model, "mode", mode).register(meterRegistry).increment();
+        }
+    }
+
+    private void acquirePermit() {
+        try {
+            rateLimiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AiServiceException("Interrupted while waiting for the AI rate limit");
+        }
     }
 }
@@ -0,0 +1,88 @@
+package br.com.riannegreiros.AiTaskApp.ai.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import br.com.riannegreiros.AiTaskApp.ai.dto.PromptCacheStats;
+import br.com.riannegreiros.AiTaskApp.ai.model.PromptCacheEntry;
+import br.com.riannegreiros.AiTaskApp.ai.repository.PromptCacheRepository;
+
+@Component
+public class PromptCache {
+    private final PromptCacheRepository repository;
+    private final Cache<String, String> results;
+    private final Duration ttl;
+    private final boolean persistent;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public PromptCache(PromptCacheRepository repository,
+            @Value("${app.ai.cache.max-size}") long maxSize,
+            @Value("${app.ai.cache.ttl}") long ttlSeconds,
+            @Value("${app.ai.cache.persistent}") boolean persistent) {
+        this.repository = repository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.persistent = persistent;
+        this.results = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+    }
+
+    public String key(String model, String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(model.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalize(prompt).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public Optional<String> get(String key) {
+        String content = results.getIfPresent(key);
+        if (content == null && persistent) {
+            content = repository.findByPromptHashAndExpiresAtAfter(key, LocalDateTime.now())
+                    .map(PromptCacheEntry::getContent).orElse(null);
+            if (content != null) {
+                results.put(key, content);
+            }
+        }
+
+        (content != null ? hits : misses).incrementAndGet();
+        return Optional.ofNullable(content);
+    }
+
+    public void put(String key, String model, String content) {
+        results.put(key, content);
+        if (persistent) {
+            repository.save(
+                    new PromptCacheEntry(key, model, content, LocalDateTime.now().plus(ttl)));
+        }
+    }
+
+    public PromptCacheStats stats() {
+        return new PromptCacheStats(hits.get(), misses.get(), results.estimatedSize());
+    }
+
+    @Scheduled(cron = "0 30 * * * *")
+    public void purgeExpired() {
+        if (persistent) {
+            repository.deleteExpired(LocalDateTime.now());
+        }
+    }
+
+    static String normalize(String prompt) {
+        return prompt.replaceAll("\\r\\n?", "\n").replaceAll("[ \\t]+", " ")
+                .replaceAll(" ?\n ?", "\n").replaceAll("\n{3,}", "\n\n").strip();
+    }
+}
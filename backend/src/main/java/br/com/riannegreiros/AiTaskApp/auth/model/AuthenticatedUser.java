@@ -0,0 +1,4 @@
+package br.com.riannegreiros.AiTaskApp.auth.model;
+
+public record AuthenticatedUser(Long id, String name, String email) {
+}
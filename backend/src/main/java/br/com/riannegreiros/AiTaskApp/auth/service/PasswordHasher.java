@@ -0,0 +1,79 @@
+package br.com.riannegreiros.AiTaskApp.auth.service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import br.com.riannegreiros.AiTaskApp.infra.exception.PasswordHashingBusyException;
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class PasswordHasher {
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final int cost;
+    private final long retryAfterSeconds;
+    private final ThreadPoolTaskExecutor executor;
+
+    public PasswordHasher(BCryptPasswordEncoder passwordEncoder,
+            @Value("${app.auth.hashing.cost}") int cost,
+            @Value("${app.auth.hashing.threads}") int threads,
+            @Value("${app.auth.hashing.queue-capacity}") int queueCapacity,
+            @Value("${app.auth.hashing.retry-after}") long retryAfterSeconds) {
+        this.passwordEncoder = passwordEncoder;
+        this.cost = cost;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(threads);
+        this.executor.setMaxPoolSize(threads);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("password-hashing-");
+        this.executor.initialize();
+    }
+
+    public String hash(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public boolean needsRehash(String encodedPassword) {
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != cost;
+    }
+
+    private <T> T run(Callable<T> work) {
+        Future<T> result;
+        try {
+            result = executor.submit(work);
+        } catch (TaskRejectedException e) {
+            throw new PasswordHashingBusyException(
+                    "Too many sign-in attempts right now, please try again shortly",
+                    retryAfterSeconds);
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.riannegreiros.AiTaskApp.auth.service;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import br.com.riannegreiros.AiTaskApp.auth.model.AuthenticatedUser;
+import br.com.riannegreiros.AiTaskApp.auth.model.User;
+import br.com.riannegreiros.AiTaskApp.auth.repository.UserRepository;
+import br.com.riannegreiros.AiTaskApp.infra.exception.UserNotFoundException;
+
+@Component
+public class PrincipalResolver {
+    private final UserRepository userRepository;
+    private final Cache<Long, AuthenticatedUser> users;
+
+    public PrincipalResolver(UserRepository userRepository,
+            @Value("${app.cache.users.max-size}") long maxSize,
+            @Value("${app.cache.users.ttl}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.users = Caffeine.newBuilder().maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds)).build();
+    }
+
+    public Long userId(JwtAuthenticationToken token) {
+        return Long.parseLong(token.getName());
+    }
+
+    public User userReference(JwtAuthenticationToken token) {
+        return userRepository.getReferenceById(currentUser(token).id());
+    }
+
+    public AuthenticatedUser currentUser(JwtAuthenticationToken token) {
+        Long id = userId(token);
+        return users.get(id, key -> userRepository.findById(key)
+                .map(user -> new AuthenticatedUser(user.getId(), user.getName(), user.getEmail()))
+                .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + key)));
+    }
+}
@@ -1,8 +1,9 @@
 package br.com.riannegreiros.AiTaskApp.auth.service;
 
 import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
@@ -10,20 +11,25 @@ import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import br.com.riannegreiros.AiTaskApp.auth.dto.AuthResponse;
 import br.com.riannegreiros.AiTaskApp.auth.dto.LoginRequest;
 import br.com.riannegreiros.AiTaskApp.auth.dto.RegisterRequest;
 import br.com.riannegreiros.AiTaskApp.auth.dto.RegisterResponse;
 import br.com.riannegreiros.AiTaskApp.auth.dto.UserResponse;
+import br.com.riannegreiros.AiTaskApp.auth.model.AuthenticatedUser;
 import br.com.riannegreiros.AiTaskApp.auth.model.User;
 import br.com.riannegreiros.AiTaskApp.auth.repository.UserRepository;
 import br.com.riannegreiros.AiTaskApp.infra.exception.InvalidCredentialsException;
+import br.com.riannegreiros.AiTaskApp.infra.exception.PasswordHashingBusyException;
 import br.com.riannegreiros.AiTaskApp.infra.exception.UserAlreadyExistsException;
-import br.com.riannegreiros.AiTaskApp.infra.exception.UserNotFoundException;
-import jakarta.transaction.Transactional;
+import br.com.riannegreiros.AiTaskApp.infra.version.CollectionVersionService;
+import br.com.riannegreiros.AiTaskApp.tasks.service.TaskStatsService;
 
 @Service
 public class UserService {
+    private static final Logger log = LoggerFactory.getLogger(UserService.class);
+
     @Value("${jwt.issuer}")
     private String jwtIssuer;
 
@@ -34,16 +40,24 @@ public class UserService {
     private Long refreshTokenExpiresIn;
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtEncoder jwtEncoder;
     private final JwtDecoder jwtDecoder;
-
-    public UserService(UserRepository userRepository, BCryptPasswordEncoder passwordEncoder,
-            JwtEncoder jwtEncoder, JwtDecoder jwtDecoder) {
+    private final PrincipalResolver principalResolver;
+    private final TaskStatsService taskStatsService;
+    private final CollectionVersionService collectionVersionService;
+
+    public UserService(UserRepository userRepository, PasswordHasher passwordHasher,
+            JwtEncoder jwtEncoder, JwtDecoder jwtDecoder, PrincipalResolver principalResolver,
+            TaskStatsService taskStatsService,
+            CollectionVersionService collectionVersionService) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
         this.jwtEncoder = jwtEncoder;
         this.jwtDecoder = jwtDecoder;
+        this.principalResolver = principalResolver;
+        this.taskStatsService = taskStatsService;
+        this.collectionVersionService = collectionVersionService;
     }
 
     @Transactional
@@ -57,9 +71,11 @@ public class UserService {
         User user = new User();
         user.setName(request.name());
         user.setEmail(request.email());
-        user.setPassword(passwordEncoder.encode(request.password()));
+        user.setPassword(passwordHasher.hash(request.password()));
 
         User newUser = userRepository.save(user);
+        taskStatsService.initializeUser(newUser.getId());
+        collectionVersionService.initialize(newUser.getId());
         return toRegisterResponse(newUser);
     }
 
@@ -70,6 +86,10 @@ public class UserService {
             throw new InvalidCredentialsException("Invalid email or password");
         }
 
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            rehashPassword(user, request.password());
+        }
+
         return toAuthResponse(user);
     }
 
@@ -98,12 +118,11 @@ public class UserService {
     }
 
     public UserResponse getUserInfo(JwtAuthenticationToken token) {
-        User user = userRepository.findById(Long.parseLong(token.getName())).orElseThrow(
-                () -> new UserNotFoundException("User not found with ID: " + token.getName()));
-        return toUserResponse(user);
+        AuthenticatedUser user = principalResolver.currentUser(token);
+        return new UserResponse(user.id().toString(), user.name(), user.email());
     }
 
-    private String generateJwt(User user, Long expiresIn, String type) {
+    String generateJwt(User user, Long expiresIn, String type) {
         var now = Instant.now();
         var claims = JwtClaimsSet.builder().issuer("ai-powered-task-app")
                 .subject(user.getId().toString()).issuedAt(now).claim("type", type)
@@ -113,7 +132,15 @@ public class UserService {
     }
 
     private boolean isLoginPasswordCorrect(LoginRequest request, String userPassword) {
-        return passwordEncoder.matches(request.password(), userPassword);
+        return passwordHasher.matches(request.password(), userPassword);
+    }
+
+    private void rehashPassword(User user, String rawPassword) {
+        try {
+            userRepository.updatePassword(user.getId(), passwordHasher.hash(rawPassword));
+        } catch (PasswordHashingBusyException e) {
+            log.debug("Deferred password rehash for user {}: hashing queue is full", user.getId());
+        }
     }
 
     private RegisterResponse toRegisterResponse(User user) {
@@ -125,8 +152,4 @@ public class UserService {
         var refreshTokenValue = generateJwt(user, refreshTokenExpiresIn, "refresh");
         return new AuthResponse(tokenValue, tokenExpiresIn, refreshTokenValue, refreshTokenExpiresIn);
     }
-
-    private UserResponse toUserResponse(User user) {
-        return new UserResponse(user.getId().toString(), user.getName(), user.getEmail());
-    }
 }
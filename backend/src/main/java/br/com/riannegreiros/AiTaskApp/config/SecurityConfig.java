@@ -1,29 +1,57 @@
 package br.com.riannegreiros.AiTaskApp.config;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
 import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import br.com.riannegreiros.AiTaskApp.infra.security.CachingJwtDecoder;
+import jakarta.servlet.DispatcherType;
 
 @Configuration
 @EnableWebSecurity
@@ -35,14 +63,31 @@ public class SecurityConfig {
     @Value("${jwt.private.key}")
     private RSAPrivateKey privateKey;
 
+    @Value("${jwt.algorithm}")
+    private SignatureAlgorithm algorithm;
+
+    @Value("${jwt.ec.public-key}")
+    private Resource ecPublicKey;
+
+    @Value("${jwt.ec.private-key}")
+    private Resource ecPrivateKey;
+
+    @Value("${jwt.rollover.accept-rsa-until}")
+    private String acceptRsaUntil;
+
+    @Value("${jwt.cache.max-size}")
+    private long jwtCacheSize;
+
     @Value("${app.frontend.url}")
     private String frontendUrl;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) {
         http.authorizeHttpRequests(
-                authorized -> authorized.requestMatchers(HttpMethod.POST, "/api/auth/**")
-                        .permitAll().anyRequest().authenticated())
+                authorized -> authorized.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/auth/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        .anyRequest().authenticated())
                 .csrf(csrf -> csrf.disable())
                 .oauth2ResourceServer(oauth2 -> oauth2.jwt(Customizer.withDefaults()))
                 .sessionManagement(
@@ -68,19 +113,87 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(publicKey).build();
+    public JwtDecoder jwtDecoder(MeterRegistry meterRegistry) {
+        List<JWK> keys = new ArrayList<>(List.of(signingKey().toPublicJWK()));
+        boolean rollover = algorithm != SignatureAlgorithm.RS256 && !acceptRsaUntil.isBlank();
+        if (rollover) {
+            keys.add(rsaKey().toPublicJWK());
+        }
+
+        NimbusJwtDecoder decoder =
+                NimbusJwtDecoder.withJwkSource(new ImmutableJWKSet<>(new JWKSet(keys)))
+                        .jwsAlgorithms(algorithms -> {
+                            algorithms.add(algorithm);
+                            if (rollover) {
+                                algorithms.add(SignatureAlgorithm.RS256);
+                            }
+                        }).build();
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                JwtValidators.createDefault(), this::validateRollover));
+        return new CachingJwtDecoder(decoder, jwtCacheSize, this::acceptedUntil, meterRegistry);
     }
 
     @Bean
     public JwtEncoder jwtEncoder() {
-        JWK jwk = new RSAKey.Builder(this.publicKey).privateKey(privateKey).build();
-        var jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
-        return new NimbusJwtEncoder(jwks);
+        var jwks = new ImmutableJWKSet<>(new JWKSet(signingKey()));
+        NimbusJwtEncoder encoder = new NimbusJwtEncoder(jwks);
+        JwsHeader header = JwsHeader.with(algorithm).build();
+        return parameters -> encoder
+                .encode(JwtEncoderParameters.from(header, parameters.getClaims()));
+    }
+
+    private OAuth2TokenValidatorResult validateRollover(Jwt jwt) {
+        if (isLegacyRsa(jwt) && Instant.now().isAfter(Instant.parse(acceptRsaUntil))) {
+            return OAuth2TokenValidatorResult.failure(new OAuth2Error("invalid_token",
+                    "RS256 tokens are no longer accepted", null));
+        }
+        return OAuth2TokenValidatorResult.success();
+    }
+
+    private Instant acceptedUntil(Jwt jwt) {
+        return isLegacyRsa(jwt) ? Instant.parse(acceptRsaUntil) : jwt.getExpiresAt();
+    }
+
+    private boolean isLegacyRsa(Jwt jwt) {
+        return algorithm != SignatureAlgorithm.RS256
+                && SignatureAlgorithm.RS256.getName().equals(jwt.getHeaders().get("alg"));
+    }
+
+    private JWK signingKey() {
+        return switch (algorithm) {
+            case RS256 -> rsaKey();
+            case ES256 -> ecKey();
+            default -> throw new IllegalStateException("Unsupported JWT algorithm: " + algorithm);
+        };
+    }
+
+    private RSAKey rsaKey() {
+        return new RSAKey.Builder(publicKey).privateKey(privateKey)
+                .algorithm(JWSAlgorithm.RS256).build();
+    }
+
+    private ECKey ecKey() {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            ECPublicKey ecPublic = (ECPublicKey) keyFactory
+                    .generatePublic(new X509EncodedKeySpec(pem(ecPublicKey)));
+            ECPrivateKey ecPrivate = (ECPrivateKey) keyFactory
+                    .generatePrivate(new PKCS8EncodedKeySpec(pem(ecPrivateKey)));
+            return new ECKey.Builder(Curve.P_256, ecPublic).privateKey(ecPrivate)
+                    .algorithm(JWSAlgorithm.ES256).build();
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Could not load the ES256 key pair", e);
+        }
+    }
+
+    private static byte[] pem(Resource resource) throws IOException {
+        String body = resource.getContentAsString(StandardCharsets.US_ASCII).lines()
+                .filter(line -> !line.startsWith("-----")).collect(Collectors.joining());
+        return Base64.getDecoder().decode(body);
     }
 
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder passwordEncoder(@Value("${app.auth.hashing.cost}") int cost) {
+        return new BCryptPasswordEncoder(cost);
     }
 }
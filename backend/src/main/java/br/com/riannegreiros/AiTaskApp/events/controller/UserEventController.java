@@ -0,0 +1,24 @@
+package br.com.riannegreiros.AiTaskApp.events.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import br.com.riannegreiros.AiTaskApp.events.service.UserEventService;
+
+@RestController
+@RequestMapping("/api/events")
+public class UserEventController {
+    private final UserEventService userEventService;
+
+    public UserEventController(UserEventService userEventService) {
+        this.userEventService = userEventService;
+    }
+
+    @GetMapping(value = "/me/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(JwtAuthenticationToken token) {
+        return userEventService.subscribe(token);
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.riannegreiros.AiTaskApp.events.dto;
+
+import br.com.riannegreiros.AiTaskApp.events.model.UserEventType;
+import br.com.riannegreiros.AiTaskApp.tags.model.dto.TagResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskResponse;
+
+public record UserEvent(Long userId, UserEventType type, UserEventPayload payload) {
+
+    public static UserEvent taskChanged(Long userId, UserEventType type, TaskResponse task,
+            long changeSeq) {
+        return new UserEvent(userId, type,
+                new UserEventPayload(task.id(), changeSeq, task, null));
+    }
+
+    public static UserEvent taskDeleted(Long userId, Long taskId, long changeSeq) {
+        return new UserEvent(userId, UserEventType.TASK_DELETED,
+                new UserEventPayload(taskId.toString(), changeSeq, null, null));
+    }
+
+    public static UserEvent taskReminder(Long userId, UserEventType type, Long taskId) {
+        return new UserEvent(userId, type,
+                new UserEventPayload(taskId.toString(), null, null, null));
+    }
+
+    public static UserEvent tagCreated(Long userId, TagResponse tag) {
+        return new UserEvent(userId, UserEventType.TAG_CREATED,
+                new UserEventPayload(tag.id(), null, null, tag));
+    }
+
+    public static UserEvent tagDeleted(Long userId, Long tagId) {
+        return new UserEvent(userId, UserEventType.TAG_DELETED,
+                new UserEventPayload(tagId.toString(), null, null, null));
+    }
+}
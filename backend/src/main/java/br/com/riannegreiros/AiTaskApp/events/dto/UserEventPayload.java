@@ -0,0 +1,7 @@
+package br.com.riannegreiros.AiTaskApp.events.dto;
+
+import br.com.riannegreiros.AiTaskApp.tags.model.dto.TagResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskResponse;
+
+public record UserEventPayload(String id, Long changeSeq, TaskResponse task, TagResponse tag) {
+}
@@ -0,0 +1,10 @@
+package br.com.riannegreiros.AiTaskApp.events.model;
+
+public enum UserEventType {
+    TASK_CREATED, TASK_UPDATED, TASK_TOGGLED, TASK_DELETED, TASK_DUE, TASK_OVERDUE, TAG_CREATED,
+    TAG_DELETED;
+
+    public String eventName() {
+        return name().toLowerCase().replace('_', '.');
+    }
+}
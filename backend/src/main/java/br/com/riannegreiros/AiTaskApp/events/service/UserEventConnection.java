@@ -0,0 +1,81 @@
+package br.com.riannegreiros.AiTaskApp.events.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+final class UserEventConnection {
+    private final SseEmitter emitter;
+    private final Executor executor;
+    private final int bufferSize;
+    private final Queue<SseEventBuilder> buffer = new ArrayDeque<>();
+    private boolean draining;
+    private boolean closing;
+    private boolean closed;
+
+    UserEventConnection(SseEmitter emitter, Executor executor, int bufferSize) {
+        this.emitter = emitter;
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    synchronized boolean offer(SseEventBuilder event) {
+        if (closing || closed) {
+            return false;
+        }
+        if (buffer.size() >= bufferSize) {
+            buffer.clear();
+            buffer.add(SseEmitter.event().name("overflow").data("{}"));
+            closing = true;
+            scheduleDrain();
+            return false;
+        }
+        buffer.add(event);
+        scheduleDrain();
+        return true;
+    }
+
+    synchronized void closed() {
+        closed = true;
+        buffer.clear();
+    }
+
+    private void scheduleDrain() {
+        if (!draining) {
+            draining = true;
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        SseEventBuilder event;
+        while ((event = next()) != null) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                closed();
+                emitter.completeWithError(e);
+                return;
+            }
+        }
+    }
+
+    private synchronized SseEventBuilder next() {
+        SseEventBuilder event = closed ? null : buffer.poll();
+        if (event == null) {
+            draining = false;
+            if (closing && !closed) {
+                closed = true;
+                emitter.complete();
+            }
+        }
+        return event;
+    }
+}
@@ -0,0 +1,111 @@
+package br.com.riannegreiros.AiTaskApp.events.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import br.com.riannegreiros.AiTaskApp.auth.service.PrincipalResolver;
+import br.com.riannegreiros.AiTaskApp.events.dto.UserEvent;
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class UserEventService {
+    private static final Logger log = LoggerFactory.getLogger(UserEventService.class);
+
+    private final PrincipalResolver principalResolver;
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final int maxConnectionsPerUser;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Long, Queue<UserEventConnection>> connections = new ConcurrentHashMap<>();
+
+    public UserEventService(PrincipalResolver principalResolver,
+            @Value("${app.events.timeout}") long timeoutSeconds,
+            @Value("${app.events.buffer-size}") int bufferSize,
+            @Value("${app.events.max-connections-per-user}") int maxConnectionsPerUser) {
+        this.principalResolver = principalResolver;
+        this.timeoutMillis = Duration.ofSeconds(timeoutSeconds).toMillis();
+        this.bufferSize = bufferSize;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+    }
+
+    public SseEmitter subscribe(JwtAuthenticationToken token) {
+        Long userId = principalResolver.userId(token);
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        UserEventConnection connection = new UserEventConnection(emitter, executor, bufferSize);
+
+        Queue<UserEventConnection> userConnections = connections.compute(userId, (id, queue) -> {
+            Queue<UserEventConnection> current = queue != null ? queue : new ConcurrentLinkedQueue<>();
+            current.add(connection);
+            return current;
+        });
+        while (userConnections.size() > maxConnectionsPerUser) {
+            UserEventConnection oldest = userConnections.poll();
+            if (oldest != null) {
+                oldest.closed();
+                oldest.emitter().complete();
+            }
+        }
+
+        Runnable remove = () -> {
+            connection.closed();
+            connections.computeIfPresent(userId, (id, queue) -> {
+                queue.remove(connection);
+                return queue.isEmpty() ? null : queue;
+            });
+        };
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        connection.offer(SseEmitter.event().name("ready").data("{}"));
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void publish(UserEvent event) {
+        Queue<UserEventConnection> userConnections = connections.get(event.userId());
+        if (userConnections == null) {
+            return;
+        }
+        for (UserEventConnection connection : userConnections) {
+            if (!connection.offer(SseEmitter.event().name(event.type().eventName())
+                    .data(event.payload(), MediaType.APPLICATION_JSON))) {
+                log.debug("Dropped {} for a slow subscriber of user {}", event.type(),
+                        event.userId());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.heartbeat}", timeUnit = TimeUnit.SECONDS)
+    public void heartbeat() {
+        connections.values().forEach(userConnections -> userConnections
+                .forEach(connection -> connection.offer(SseEmitter.event().comment("ping"))));
+    }
+
+    public int connectionCount() {
+        return connections.values().stream().mapToInt(Queue::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(userConnections -> userConnections.forEach(connection -> {
+            connection.closed();
+            connection.emitter().complete();
+        }));
+        executor.shutdown();
+    }
+}
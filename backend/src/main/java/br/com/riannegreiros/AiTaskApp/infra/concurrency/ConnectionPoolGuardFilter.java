@@ -0,0 +1,85 @@
+package br.com.riannegreiros.AiTaskApp.infra.concurrency;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import br.com.riannegreiros.AiTaskApp.infra.exception.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+@Component
+public class ConnectionPoolGuardFilter extends OncePerRequestFilter {
+    private final boolean enabled;
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final JsonMapper jsonMapper;
+    private final Counter rejected;
+
+    public ConnectionPoolGuardFilter(
+            @Value("${spring.threads.virtual.enabled}") boolean virtualThreads,
+            @Value("${spring.datasource.hikari.maximum-pool-size}") int poolSize,
+            @Value("${app.threads.pool-guard.requests-per-connection}") int requestsPerConnection,
+            @Value("${app.threads.pool-guard.max-wait}") long maxWait, JsonMapper jsonMapper,
+            MeterRegistry meterRegistry) {
+        this.enabled = virtualThreads && requestsPerConnection > 0;
+        this.permits = new Semaphore(Math.max(1, poolSize * requestsPerConnection), true);
+        this.maxWaitNanos = TimeUnit.SECONDS.toNanos(maxWait);
+        this.jsonMapper = jsonMapper;
+        this.rejected = Counter.builder("http.server.requests.guard.rejected")
+                .description("Requests rejected because the connection pool was saturated")
+                .register(meterRegistry);
+        Gauge.builder("http.server.requests.guard.waiting", permits, Semaphore::getQueueLength)
+                .description("Requests waiting for a connection pool permit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            reject(response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        jsonMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse("Server is busy, please retry shortly",
+                        HttpStatus.SERVICE_UNAVAILABLE.value(), LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.riannegreiros.AiTaskApp.infra.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.zaxxer.hikari.HikariDataSource;
+
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy
+        implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final List<HikariDataSource> replicas;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicas,
+            ReadYourWritesTracker tracker) {
+        super(new PrimaryDataSource(primary, tracker));
+        this.replicas = List.copyOf(replicas);
+        setReadOnlyDataSource(new ReplicaDataSource(primary, this.replicas, tracker));
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+
+    private static class PrimaryDataSource extends DelegatingDataSource {
+        private final ReadYourWritesTracker tracker;
+
+        PrimaryDataSource(DataSource primary, ReadYourWritesTracker tracker) {
+            super(primary);
+            this.tracker = tracker;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (TransactionSynchronizationManager.isSynchronizationActive()
+                    && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                TransactionSynchronizationManager
+                        .registerSynchronization(new TransactionSynchronization() {
+                            @Override
+                            public void afterCommit() {
+                                tracker.recordWrite();
+                            }
+                        });
+            }
+            return super.getConnection();
+        }
+    }
+
+    private static class ReplicaDataSource extends AbstractDataSource {
+        private final DataSource primary;
+        private final List<HikariDataSource> replicas;
+        private final ReadYourWritesTracker tracker;
+        private final AtomicInteger next = new AtomicInteger();
+
+        ReplicaDataSource(DataSource primary, List<HikariDataSource> replicas,
+                ReadYourWritesTracker tracker) {
+            this.primary = primary;
+            this.replicas = replicas;
+            this.tracker = tracker;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (tracker.wroteRecently()) {
+                return primary.getConnection();
+            }
+            HikariDataSource replica =
+                    replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                log.warn("Replica {} unavailable, reading from primary", replica.getPoolName(), e);
+                return primary.getConnection();
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return primary.getConnection(username, password);
+        }
+    }
+}
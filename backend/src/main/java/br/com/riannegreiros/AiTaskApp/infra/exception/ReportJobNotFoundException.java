@@ -0,0 +1,7 @@
+package br.com.riannegreiros.AiTaskApp.infra.exception;
+
+public class ReportJobNotFoundException extends RuntimeException {
+    public ReportJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.riannegreiros.AiTaskApp.infra.exception;
+
+public class ReportNotFoundException extends RuntimeException {
+    public ReportNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.riannegreiros.AiTaskApp.infra.exception;
+
+public class ReportQueueFullException extends RuntimeException {
+    public ReportQueueFullException(String message) {
+        super(message);
+    }
+}
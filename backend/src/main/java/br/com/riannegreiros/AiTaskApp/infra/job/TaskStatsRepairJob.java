@@ -0,0 +1,54 @@
+package br.com.riannegreiros.AiTaskApp.infra.job;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import br.com.riannegreiros.AiTaskApp.auth.repository.UserRepository;
+import br.com.riannegreiros.AiTaskApp.tasks.service.TaskStatsService;
+
+@Component
+public class TaskStatsRepairJob {
+    private static final Logger log = LoggerFactory.getLogger(TaskStatsRepairJob.class);
+
+    private final UserRepository userRepository;
+    private final TaskStatsService taskStatsService;
+    private final int pageSize;
+
+    public TaskStatsRepairJob(UserRepository userRepository, TaskStatsService taskStatsService,
+            @Value("${app.tasks.stats-repair.page-size}") int pageSize) {
+        this.userRepository = userRepository;
+        this.taskStatsService = taskStatsService;
+        this.pageSize = pageSize;
+    }
+
+    @Scheduled(cron = "${app.tasks.stats-repair.cron}")
+    public void rebuildAll() {
+        Instant start = Instant.now();
+        long lastUserId = 0L;
+        int rebuilt = 0;
+        int failed = 0;
+
+        List<Long> userIds;
+        while (!(userIds = userRepository.findIdsAfter(lastUserId, Limit.of(pageSize))).isEmpty()) {
+            for (Long userId : userIds) {
+                try {
+                    taskStatsService.rebuild(userId);
+                    rebuilt++;
+                } catch (Exception e) {
+                    log.warn("Task stats rebuild failed for user {}", userId, e);
+                    failed++;
+                }
+            }
+            lastUserId = userIds.getLast();
+        }
+
+        log.info("Task stats repair finished in {}: {} rebuilt, {} failed",
+                Duration.between(start, Instant.now()), rebuilt, failed);
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.riannegreiros.AiTaskApp.infra.job;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import br.com.riannegreiros.AiTaskApp.tasks.service.TaskService;
+
+@Component
+public class TaskTombstoneCompactionJob {
+    private static final Logger log = LoggerFactory.getLogger(TaskTombstoneCompactionJob.class);
+
+    private final TaskService taskService;
+
+    public TaskTombstoneCompactionJob(TaskService taskService) {
+        this.taskService = taskService;
+    }
+
+    @Scheduled(cron = "${app.tasks.sync.compaction-cron}")
+    public void compact() {
+        int removed = taskService.compactTombstones();
+        log.info("Task tombstone compaction removed {} tombstones", removed);
+    }
+}
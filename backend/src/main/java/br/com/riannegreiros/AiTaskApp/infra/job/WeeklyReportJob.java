@@ -1,32 +1,209 @@
 package br.com.riannegreiros.AiTaskApp.infra.job;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import br.com.riannegreiros.AiTaskApp.auth.model.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import br.com.riannegreiros.AiTaskApp.ai.dto.PromptCacheStats;
+import br.com.riannegreiros.AiTaskApp.ai.service.PromptCache;
 import br.com.riannegreiros.AiTaskApp.auth.repository.UserRepository;
+import br.com.riannegreiros.AiTaskApp.reports.model.ReportJobRun;
+import br.com.riannegreiros.AiTaskApp.reports.model.ReportJobStatus;
+import br.com.riannegreiros.AiTaskApp.reports.repository.ReportJobRunRepository;
 import br.com.riannegreiros.AiTaskApp.reports.service.ReportService;
+import jakarta.annotation.PreDestroy;
 
 @Component
 public class WeeklyReportJob {
+    private static final Logger log = LoggerFactory.getLogger(WeeklyReportJob.class);
+
+    private enum Outcome {
+        GENERATED, SKIPPED, FAILED
+    }
 
     private final UserRepository userRepository;
     private final ReportService reportService;
+    private final ReportJobRunRepository runRepository;
+    private final PromptCache promptCache;
+    private final int concurrency;
+    private final int pageSize;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("weekly-report").daemon().factory());
 
-    public WeeklyReportJob(UserRepository userRepository, ReportService reportService) {
+    public WeeklyReportJob(UserRepository userRepository, ReportService reportService,
+            ReportJobRunRepository runRepository, PromptCache promptCache,
+            @Value("${app.reports.weekly-job.concurrency}") int concurrency,
+            @Value("${app.reports.weekly-job.page-size}") int pageSize,
+            MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
         this.reportService = reportService;
+        this.runRepository = runRepository;
+        this.promptCache = promptCache;
+        this.concurrency = concurrency;
+        this.pageSize = pageSize;
+        this.meterRegistry = meterRegistry;
     }
 
     @Scheduled(cron = "0 0 8 * * MON")
     public void generateWeeklyReports() {
-        PageRequest pageable = PageRequest.of(0, 20);
-        Page<User> page;
-        do {
-            page = userRepository.findAll(pageable);
-            page.forEach(user -> reportService.generateReport(user.getId()));
-            pageable = pageable.next();
-        } while (page.hasNext());
+        submit(LocalDate.now());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedRuns() {
+        runRepository.findAllByStatus(ReportJobStatus.RUNNING)
+                .forEach(run -> submit(run.getRunDate()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+    }
+
+    void run(LocalDate runDate) {
+        ReportJobRun run = runRepository.findByRunDate(runDate)
+                .orElseGet(() -> runRepository.save(new ReportJobRun(runDate)));
+        if (run.getStatus() == ReportJobStatus.COMPLETED) {
+            log.info("Weekly report run for {} already completed", runDate);
+            return;
+        }
+        execute(run);
+    }
+
+    private void submit(LocalDate runDate) {
+        runner.execute(() -> {
+            try {
+                run(runDate);
+            } catch (RuntimeException e) {
+                log.error("Weekly report run for {} failed", runDate, e);
+            }
+        });
+    }
+
+    private void execute(ReportJobRun run) {
+        log.info("Weekly report run for {} starting after user {}", run.getRunDate(),
+                run.getLastUserId());
+        Instant start = Instant.now();
+        PromptCacheStats cacheBefore = promptCache.stats();
+        Semaphore permits = new Semaphore(concurrency);
+        int succeeded = 0;
+        int skipped = 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Long> userIds;
+            while (!(userIds = userRepository.findIdsAfter(run.getLastUserId(), Limit.of(pageSize)))
+                    .isEmpty()) {
+                Map<Long, Outcome> outcomes = generateAll(userIds, executor, permits);
+                int pageSucceeded = count(outcomes, Outcome.GENERATED);
+                int pageSkipped = count(outcomes, Outcome.SKIPPED);
+                run.checkpoint(userIds.getLast(), pageSucceeded, pageSkipped,
+                        failedUserIds(outcomes));
+                run = runRepository.save(run);
+                succeeded += pageSucceeded;
+                skipped += pageSkipped;
+            }
+
+            if (!run.getFailedUserIds().isEmpty()) {
+                Map<Long, Outcome> retried =
+                        generateAll(List.copyOf(run.getFailedUserIds()), executor, permits);
+                for (Map.Entry<Long, Outcome> retry : retried.entrySet()) {
+                    if (retry.getValue() != Outcome.FAILED) {
+                        run.recover(retry.getKey(), retry.getValue() == Outcome.GENERATED);
+                    }
+                }
+                run = runRepository.save(run);
+                succeeded += count(retried, Outcome.GENERATED);
+                skipped += count(retried, Outcome.SKIPPED);
+            }
+        }
+
+        int failed = run.getFailedUserIds().size();
+        run.complete();
+        runRepository.save(run);
+        Timer.builder("reports.weekly.run").description("Duration of weekly report runs")
+                .register(meterRegistry).record(Duration.between(start, Instant.now()));
+        recordUsers(Outcome.GENERATED, succeeded);
+        recordUsers(Outcome.SKIPPED, skipped);
+        recordUsers(Outcome.FAILED, failed);
+        PromptCacheStats cacheAfter = promptCache.stats();
+        log.info("Weekly report run for {} finished in {}: {} generated, {} skipped, {} failed "
+                + "(run totals: {} generated, {} skipped, {} failed; "
+                + "prompt cache: {} hits, {} misses)", run.getRunDate(),
+                Duration.between(start, Instant.now()), succeeded, skipped, failed,
+                run.getSucceeded(), run.getSkipped(), run.getFailed(),
+                cacheAfter.hits() - cacheBefore.hits(), cacheAfter.misses() - cacheBefore.misses());
+    }
+
+    private Map<Long, Outcome> generateAll(List<Long> userIds, ExecutorService executor,
+            Semaphore permits) {
+        Map<Long, Future<Outcome>> futures = new LinkedHashMap<>();
+        userIds.forEach(userId -> futures.put(userId,
+                executor.submit(() -> generate(userId, permits))));
+        Map<Long, Outcome> outcomes = new LinkedHashMap<>();
+        futures.forEach((userId, outcome) -> outcomes.put(userId, await(outcome)));
+        return outcomes;
+    }
+
+    private static int count(Map<Long, Outcome> outcomes, Outcome outcome) {
+        return (int) outcomes.values().stream().filter(outcome::equals).count();
+    }
+
+    private static List<Long> failedUserIds(Map<Long, Outcome> outcomes) {
+        return outcomes.entrySet().stream().filter(entry -> entry.getValue() == Outcome.FAILED)
+                .map(Map.Entry::getKey).toList();
+    }
+
+    private void recordUsers(Outcome outcome, int count) {
+        Counter.builder("reports.weekly.users").description("Users processed by weekly report runs")
+                .tag("outcome", outcome.name().toLowerCase()).register(meterRegistry)
+                .increment(count);
+    }
+
+    private Outcome generate(Long userId, Semaphore permits) {
+        try {
+            permits.acquire();
+            try {
+                return reportService.generateReport(userId).isPresent() ? Outcome.GENERATED
+                        : Outcome.SKIPPED;
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Outcome.FAILED;
+        } catch (Exception e) {
+            log.warn("Weekly report failed for user {}", userId, e);
+            return Outcome.FAILED;
+        }
+    }
+
+    private Outcome await(Future<Outcome> outcome) {
+        try {
+            return outcome.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Outcome.FAILED;
+        } catch (ExecutionException e) {
+            return Outcome.FAILED;
+        }
     }
 }
@@ -0,0 +1,70 @@
+package br.com.riannegreiros.AiTaskApp.infra.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Function;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+public class CachingJwtDecoder implements JwtDecoder {
+    private final JwtDecoder delegate;
+    private final boolean enabled;
+    private final Function<Jwt, Instant> acceptedUntil;
+    private final Cache<String, Jwt> verified;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maxSize,
+            Function<Jwt, Instant> acceptedUntil, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.enabled = maxSize > 0;
+        this.acceptedUntil = acceptedUntil;
+        this.verified = Caffeine.newBuilder().maximumSize(Math.max(maxSize, 0))
+                .expireAfter(Expiry.creating((String digest, Jwt jwt) -> timeToLive(jwt)))
+                .recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "jwt.verified");
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        if (!enabled) {
+            return delegate.decode(token);
+        }
+
+        String digest = digest(token);
+        Jwt jwt = verified.getIfPresent(digest);
+        if (jwt != null) {
+            return jwt;
+        }
+
+        jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null && "access".equals(jwt.getClaimAsString("type"))) {
+            verified.put(digest, jwt);
+        }
+        return jwt;
+    }
+
+    private Duration timeToLive(Jwt jwt) {
+        Instant until = acceptedUntil.apply(jwt);
+        Instant expiresAt = until.isBefore(jwt.getExpiresAt()) ? until : jwt.getExpiresAt();
+        Duration ttl = Duration.between(Instant.now(), expiresAt);
+        return ttl.isNegative() ? Duration.ZERO : ttl;
+    }
+
+    private static String digest(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
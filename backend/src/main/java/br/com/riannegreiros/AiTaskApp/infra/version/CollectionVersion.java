@@ -0,0 +1,49 @@
+package br.com.riannegreiros.AiTaskApp.infra.version;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "tb_collection_versions")
+public class CollectionVersion {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "tasks_version")
+    private long tasksVersion;
+
+    @Column(name = "tags_version")
+    private long tagsVersion;
+
+    @Column(name = "reports_version")
+    private long reportsVersion;
+
+    public CollectionVersion() {}
+
+    public CollectionVersion(Long userId) {
+        this.userId = userId;
+    }
+
+    public long get(VersionedCollection collection) {
+        return switch (collection) {
+            case TASKS -> tasksVersion;
+            case TAGS -> tagsVersion;
+            case REPORTS -> reportsVersion;
+        };
+    }
+
+    public void increment(VersionedCollection collection) {
+        switch (collection) {
+            case TASKS -> tasksVersion++;
+            case TAGS -> tagsVersion++;
+            case REPORTS -> reportsVersion++;
+        }
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+}
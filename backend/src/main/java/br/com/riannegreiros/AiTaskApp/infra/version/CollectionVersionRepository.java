@@ -0,0 +1,28 @@
+package br.com.riannegreiros.AiTaskApp.infra.version;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CollectionVersionRepository extends JpaRepository<CollectionVersion, Long> {
+    @Modifying
+    @Query("UPDATE CollectionVersion v SET v.tasksVersion = v.tasksVersion + 1 "
+            + "WHERE v.userId = :userId")
+    int incrementTasks(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE CollectionVersion v SET v.tagsVersion = v.tagsVersion + 1 "
+            + "WHERE v.userId = :userId")
+    int incrementTags(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE CollectionVersion v SET v.reportsVersion = v.reportsVersion + 1 "
+            + "WHERE v.userId = :userId")
+    int incrementReports(@Param("userId") Long userId);
+
+    @Query("SELECT v.tasksVersion FROM CollectionVersion v WHERE v.userId = :userId")
+    long findTasksVersion(@Param("userId") Long userId);
+}
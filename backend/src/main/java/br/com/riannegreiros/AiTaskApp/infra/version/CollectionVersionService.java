@@ -0,0 +1,48 @@
+package br.com.riannegreiros.AiTaskApp.infra.version;
+
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import br.com.riannegreiros.AiTaskApp.auth.service.PrincipalResolver;
+
+@Service
+public class CollectionVersionService {
+    private final CollectionVersionRepository repository;
+    private final PrincipalResolver principalResolver;
+
+    public CollectionVersionService(CollectionVersionRepository repository,
+            PrincipalResolver principalResolver) {
+        this.repository = repository;
+        this.principalResolver = principalResolver;
+    }
+
+    public String etag(JwtAuthenticationToken token, VersionedCollection collection) {
+        Long userId = principalResolver.userId(token);
+        long version = repository.findById(userId).map(v -> v.get(collection)).orElse(0L);
+        return "\"" + collection.name().toLowerCase() + "-" + userId + "-" + version + "\"";
+    }
+
+    public void initialize(Long userId) {
+        repository.save(new CollectionVersion(userId));
+    }
+
+    @Transactional
+    public void bump(Long userId, VersionedCollection collection) {
+        int updated = switch (collection) {
+            case TASKS -> repository.incrementTasks(userId);
+            case TAGS -> repository.incrementTags(userId);
+            case REPORTS -> repository.incrementReports(userId);
+        };
+        if (updated == 0) {
+            CollectionVersion version = new CollectionVersion(userId);
+            version.increment(collection);
+            repository.save(version);
+        }
+    }
+
+    @Transactional
+    public long nextTasksVersion(Long userId) {
+        bump(userId, VersionedCollection.TASKS);
+        return repository.findTasksVersion(userId);
+    }
+}
@@ -0,0 +1,5 @@
+package br.com.riannegreiros.AiTaskApp.infra.version;
+
+public enum VersionedCollection {
+    TASKS, TAGS, REPORTS
+}
@@ -0,0 +1,7 @@
+package br.com.riannegreiros.AiTaskApp.reminders.dto;
+
+import java.time.Instant;
+import br.com.riannegreiros.AiTaskApp.reminders.model.ReminderType;
+
+public record TaskReminder(Long taskId, Long userId, Instant dueAt, ReminderType type) {
+}
@@ -0,0 +1,5 @@
+package br.com.riannegreiros.AiTaskApp.reminders.model;
+
+public enum ReminderType {
+    DUE, OVERDUE
+}
@@ -0,0 +1,30 @@
+package br.com.riannegreiros.AiTaskApp.reminders.model;
+
+import java.time.OffsetDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "tb_reminder_watermark")
+public class ReminderWatermark {
+    public static final short ID = 1;
+
+    @Id
+    private Short id;
+
+    @Column(name = "sent_until")
+    private OffsetDateTime sentUntil;
+
+    public ReminderWatermark() {}
+
+    public ReminderWatermark(OffsetDateTime sentUntil) {
+        this.id = ID;
+        this.sentUntil = sentUntil;
+    }
+
+    public OffsetDateTime getSentUntil() {
+        return sentUntil;
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.riannegreiros.AiTaskApp.reminders.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import br.com.riannegreiros.AiTaskApp.reminders.model.ReminderWatermark;
+
+@Repository
+public interface ReminderWatermarkRepository extends JpaRepository<ReminderWatermark, Short> {
+}
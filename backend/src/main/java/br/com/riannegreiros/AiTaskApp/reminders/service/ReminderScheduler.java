@@ -0,0 +1,325 @@
+package br.com.riannegreiros.AiTaskApp.reminders.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import br.com.riannegreiros.AiTaskApp.events.dto.UserEvent;
+import br.com.riannegreiros.AiTaskApp.reminders.dto.TaskReminder;
+import br.com.riannegreiros.AiTaskApp.reminders.model.ReminderType;
+import br.com.riannegreiros.AiTaskApp.reminders.model.ReminderWatermark;
+import br.com.riannegreiros.AiTaskApp.reminders.repository.ReminderWatermarkRepository;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskDueRow;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.repository.TaskRepository;
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class ReminderScheduler {
+    private static final Logger log = LoggerFactory.getLogger(ReminderScheduler.class);
+
+    private final TaskRepository taskRepository;
+    private final ReminderWatermarkRepository watermarkRepository;
+    private final ReminderSink sink;
+    private final boolean enabled;
+    private final long tickMillis;
+    private final long horizonMillis;
+    private final long catchUpMillis;
+    private final int maxPending;
+    private final int pageSize;
+    private final Counter dueReminders;
+    private final Counter overdueReminders;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("task-reminders").daemon().factory());
+
+    private TimingWheel wheel;
+    private long loadedUntil;
+    private long refillAt;
+    private Map<Long, TaskResponse> changedWhileLoading;
+
+    public ReminderScheduler(TaskRepository taskRepository,
+            ReminderWatermarkRepository watermarkRepository, ReminderSink sink,
+            @Value("${app.reminders.enabled}") boolean enabled,
+            @Value("${app.reminders.tick}") long tickSeconds,
+            @Value("${app.reminders.horizon}") long horizonSeconds,
+            @Value("${app.reminders.catch-up}") long catchUpSeconds,
+            @Value("${app.reminders.max-pending}") int maxPending,
+            @Value("${app.reminders.page-size}") int pageSize, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.sink = sink;
+        this.enabled = enabled;
+        this.tickMillis = Duration.ofSeconds(tickSeconds).toMillis();
+        this.horizonMillis = Duration.ofSeconds(horizonSeconds).toMillis();
+        this.catchUpMillis = Duration.ofSeconds(catchUpSeconds).toMillis();
+        this.maxPending = maxPending;
+        this.pageSize = pageSize;
+        this.dueReminders = reminderCounter(meterRegistry, ReminderType.DUE);
+        this.overdueReminders = reminderCounter(meterRegistry, ReminderType.OVERDUE);
+        Gauge.builder("tasks.reminders.pending", this, ReminderScheduler::pendingCount)
+                .description("Reminders held in memory waiting for their due date")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        start(Instant.now());
+        executor.scheduleAtFixedRate(() -> {
+            try {
+                advance(Instant.now());
+            } catch (RuntimeException e) {
+                log.error("Reminder tick failed", e);
+            }
+        }, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @TransactionalEventListener
+    public void onUserEvent(UserEvent event) {
+        switch (event.type()) {
+            case TASK_CREATED, TASK_UPDATED, TASK_TOGGLED -> change(
+                    Long.valueOf(event.payload().id()), event.payload().task());
+            case TASK_DELETED -> change(Long.valueOf(event.payload().id()), null);
+            default -> {
+            }
+        }
+    }
+
+    public int pendingCount() {
+        lock.lock();
+        try {
+            return wheel == null ? 0 : wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void start(Instant now) {
+        long nowMillis = now.toEpochMilli();
+        lock.lock();
+        try {
+            wheel = new TimingWheel(tickMillis, (int) (horizonMillis / tickMillis) + 2, nowMillis);
+            loadedUntil = nowMillis;
+            refillAt = nowMillis;
+        } finally {
+            lock.unlock();
+        }
+        long from = Math.max(nowMillis - catchUpMillis, sentUntil());
+        int overdue = from >= nowMillis ? 0 : load(from, nowMillis, Integer.MAX_VALUE,
+                row -> send(new TaskReminder(row.id(), row.userId(), row.dueDate().toInstant(),
+                        ReminderType.OVERDUE)));
+        refill(now);
+        markSent();
+        log.info("Reminder scheduler started with {} pending reminders, {} overdue sent",
+                pendingCount(), overdue);
+    }
+
+    void advance(Instant now) {
+        List<TaskReminder> due;
+        boolean refill;
+        lock.lock();
+        try {
+            due = wheel.advance(now.toEpochMilli());
+            refill = now.toEpochMilli() >= refillAt;
+        } finally {
+            lock.unlock();
+        }
+        due.forEach(this::send);
+        int sent = due.size() + (refill ? refill(now) : 0);
+        if (sent > 0) {
+            markSent();
+        }
+    }
+
+    private int refill(Instant now) {
+        long from;
+        long to;
+        int capacity;
+        lock.lock();
+        try {
+            from = loadedUntil;
+            to = Math.min(now.toEpochMilli() + horizonMillis, wheel.spanEndMillis());
+            capacity = maxPending - wheel.size();
+            changedWhileLoading = new HashMap<>();
+        } finally {
+            lock.unlock();
+        }
+
+        List<Long> lastDueIds = new ArrayList<>();
+        List<TaskReminder> due = new ArrayList<>();
+        long[] lastDue = {Long.MIN_VALUE};
+        int loaded = from >= to || capacity <= 0 ? 0 : load(from, to, capacity, row -> {
+            long dueMillis = row.dueDate().toInstant().toEpochMilli();
+            if (dueMillis != lastDue[0]) {
+                lastDueIds.clear();
+                lastDue[0] = dueMillis;
+            }
+            lastDueIds.add(row.id());
+            lock.lock();
+            try {
+                if (changedWhileLoading.containsKey(row.id())) {
+                    return;
+                }
+                if (dueMillis <= wheel.currentMillis()) {
+                    due.add(new TaskReminder(row.id(), row.userId(), row.dueDate().toInstant(),
+                            ReminderType.DUE));
+                } else {
+                    wheel.schedule(row.id(), row.userId(), dueMillis);
+                }
+            } finally {
+                lock.unlock();
+            }
+        });
+
+        lock.lock();
+        try {
+            boolean complete = from >= to || capacity > 0 && loaded < capacity;
+            if (complete) {
+                loadedUntil = Math.max(from, to);
+            } else if (loaded == 0) {
+                loadedUntil = from;
+            } else if (lastDueIds.size() < loaded) {
+                lastDueIds.forEach(wheel::cancel);
+                due.removeIf(reminder -> lastDueIds.contains(reminder.taskId()));
+                loadedUntil = lastDue[0];
+            } else {
+                loadedUntil = lastDue[0] + 1;
+            }
+            refillAt = complete ? loadedUntil - horizonMillis / 2 : loadedUntil;
+            Map<Long, TaskResponse> changes = changedWhileLoading;
+            changedWhileLoading = null;
+            changes.forEach((taskId, task) -> {
+                if (task != null) {
+                    apply(taskId, task);
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+        due.forEach(this::send);
+        return due.size();
+    }
+
+    private long sentUntil() {
+        return watermarkRepository.findById(ReminderWatermark.ID)
+                .map(watermark -> watermark.getSentUntil().toInstant().toEpochMilli())
+                .orElse(Long.MIN_VALUE);
+    }
+
+    private void markSent() {
+        long sentUntil;
+        lock.lock();
+        try {
+            sentUntil = wheel.currentMillis() + 1;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            watermarkRepository.save(new ReminderWatermark(toDateTime(sentUntil)));
+        } catch (RuntimeException e) {
+            log.warn("Failed to store the reminder watermark", e);
+        }
+    }
+
+    private int load(long from, long to, int max, Consumer<TaskDueRow> consumer) {
+        OffsetDateTime fromDate = toDateTime(from);
+        OffsetDateTime toDate = toDateTime(to);
+        int loaded = 0;
+        TaskDueRow last = null;
+        while (loaded < max) {
+            Limit limit = Limit.of(Math.min(pageSize, max - loaded));
+            List<TaskDueRow> rows = last == null
+                    ? taskRepository.findPendingDue(fromDate, toDate, limit)
+                    : taskRepository.findPendingDueAfter(fromDate, toDate, last.dueDate(),
+                            last.id(), limit);
+            rows.forEach(consumer);
+            loaded += rows.size();
+            if (rows.size() < limit.max()) {
+                break;
+            }
+            last = rows.getLast();
+        }
+        return loaded;
+    }
+
+    private void change(Long taskId, TaskResponse task) {
+        lock.lock();
+        try {
+            if (wheel == null) {
+                return;
+            }
+            wheel.cancel(taskId);
+            if (changedWhileLoading != null) {
+                changedWhileLoading.put(taskId, task);
+            } else if (task != null) {
+                apply(taskId, task);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void apply(Long taskId, TaskResponse task) {
+        if (Boolean.TRUE.equals(task.completed()) || task.dueDate() == null) {
+            return;
+        }
+        long dueMillis = task.dueDate().toInstant().toEpochMilli();
+        if (dueMillis <= wheel.currentMillis() || dueMillis >= loadedUntil) {
+            return;
+        }
+        if (wheel.size() >= maxPending) {
+            loadedUntil = Math.min(loadedUntil, wheel.evictLatest());
+            refillAt = Math.min(refillAt, loadedUntil);
+        }
+        if (dueMillis < loadedUntil) {
+            wheel.schedule(taskId, Long.valueOf(task.userId()), dueMillis);
+        }
+    }
+
+    private void send(TaskReminder reminder) {
+        try {
+            sink.send(reminder);
+            (reminder.type() == ReminderType.DUE ? dueReminders : overdueReminders).increment();
+        } catch (RuntimeException e) {
+            log.warn("Failed to send {} reminder for task {}", reminder.type(), reminder.taskId(),
+                    e);
+        }
+    }
+
+    private static Counter reminderCounter(MeterRegistry meterRegistry, ReminderType type) {
+        return Counter.builder("tasks.reminders.sent").description("Task reminders sent")
+                .tag("type", type.name().toLowerCase()).register(meterRegistry);
+    }
+
+    private static OffsetDateTime toDateTime(long epochMillis) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
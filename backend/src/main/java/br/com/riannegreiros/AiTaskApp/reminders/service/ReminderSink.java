@@ -0,0 +1,8 @@
+package br.com.riannegreiros.AiTaskApp.reminders.service;
+
+import br.com.riannegreiros.AiTaskApp.reminders.dto.TaskReminder;
+
+public interface ReminderSink {
+
+    void send(TaskReminder reminder);
+}
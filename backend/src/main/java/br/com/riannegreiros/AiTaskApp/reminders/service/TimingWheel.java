@@ -0,0 +1,116 @@
+package br.com.riannegreiros.AiTaskApp.reminders.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import br.com.riannegreiros.AiTaskApp.reminders.dto.TaskReminder;
+import br.com.riannegreiros.AiTaskApp.reminders.model.ReminderType;
+
+class TimingWheel {
+
+    private static final class Entry {
+        private final long taskId;
+        private final long userId;
+        private final long dueMillis;
+        private final int bucket;
+        private Entry prev;
+        private Entry next;
+
+        private Entry(long taskId, long userId, long dueMillis, int bucket) {
+            this.taskId = taskId;
+            this.userId = userId;
+            this.dueMillis = dueMillis;
+            this.bucket = bucket;
+        }
+    }
+
+    private final long tickMillis;
+    private final Entry[] buckets;
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private long currentTick;
+
+    TimingWheel(long tickMillis, int size, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.buckets = new Entry[size];
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long currentMillis() {
+        return currentTick * tickMillis;
+    }
+
+    long spanEndMillis() {
+        return (currentTick + buckets.length - 1) * tickMillis;
+    }
+
+    boolean schedule(long taskId, long userId, long dueMillis) {
+        cancel(taskId);
+        long tick = Math.max(Math.ceilDiv(dueMillis, tickMillis), currentTick + 1);
+        if (tick >= currentTick + buckets.length) {
+            return false;
+        }
+        int bucket = (int) (tick % buckets.length);
+        Entry entry = new Entry(taskId, userId, dueMillis, bucket);
+        entry.next = buckets[bucket];
+        if (entry.next != null) {
+            entry.next.prev = entry;
+        }
+        buckets[bucket] = entry;
+        entries.put(taskId, entry);
+        return true;
+    }
+
+    boolean cancel(long taskId) {
+        Entry entry = entries.remove(taskId);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            buckets[entry.bucket] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        return true;
+    }
+
+    long evictLatest() {
+        long earliestDue = Long.MAX_VALUE;
+        for (int offset = buckets.length - 1; offset > 0; offset--) {
+            int bucket = (int) ((currentTick + offset) % buckets.length);
+            if (buckets[bucket] != null) {
+                for (Entry entry = buckets[bucket]; entry != null; entry = entry.next) {
+                    entries.remove(entry.taskId);
+                    earliestDue = Math.min(earliestDue, entry.dueMillis);
+                }
+                buckets[bucket] = null;
+                return earliestDue;
+            }
+        }
+        return earliestDue;
+    }
+
+    List<TaskReminder> advance(long nowMillis) {
+        List<TaskReminder> due = new ArrayList<>();
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            int bucket = (int) (currentTick % buckets.length);
+            for (Entry entry = buckets[bucket]; entry != null; entry = entry.next) {
+                entries.remove(entry.taskId);
+                due.add(new TaskReminder(entry.taskId, entry.userId,
+                        Instant.ofEpochMilli(entry.dueMillis), ReminderType.DUE));
+            }
+            buckets[bucket] = null;
+        }
+        return due;
+    }
+}
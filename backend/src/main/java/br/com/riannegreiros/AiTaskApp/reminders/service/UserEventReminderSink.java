@@ -0,0 +1,25 @@
+package br.com.riannegreiros.AiTaskApp.reminders.service;
+
+import org.springframework.stereotype.Component;
+import br.com.riannegreiros.AiTaskApp.events.dto.UserEvent;
+import br.com.riannegreiros.AiTaskApp.events.model.UserEventType;
+import br.com.riannegreiros.AiTaskApp.events.service.UserEventService;
+import br.com.riannegreiros.AiTaskApp.reminders.dto.TaskReminder;
+import br.com.riannegreiros.AiTaskApp.reminders.model.ReminderType;
+
+@Component
+public class UserEventReminderSink implements ReminderSink {
+    private final UserEventService userEventService;
+
+    public UserEventReminderSink(UserEventService userEventService) {
+        this.userEventService = userEventService;
+    }
+
+    @Override
+    public void send(TaskReminder reminder) {
+        UserEventType type = reminder.type() == ReminderType.DUE ? UserEventType.TASK_DUE
+                : UserEventType.TASK_OVERDUE;
+        userEventService
+                .publish(UserEvent.taskReminder(reminder.userId(), type, reminder.taskId()));
+    }
+}
@@ -1,31 +1,88 @@
 package br.com.riannegreiros.AiTaskApp.reports.controller;
 
-import java.util.List;
+import java.net.URI;
+import java.time.Duration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import br.com.riannegreiros.AiTaskApp.infra.version.CollectionVersionService;
+import br.com.riannegreiros.AiTaskApp.infra.version.VersionedCollection;
+import br.com.riannegreiros.AiTaskApp.reports.dto.ReportJobResponse;
+import br.com.riannegreiros.AiTaskApp.reports.dto.ReportPageResponse;
 import br.com.riannegreiros.AiTaskApp.reports.dto.ReportResponse;
+import br.com.riannegreiros.AiTaskApp.reports.service.ReportGenerationService;
 import br.com.riannegreiros.AiTaskApp.reports.service.ReportService;
+import br.com.riannegreiros.AiTaskApp.reports.service.ReportStreamService;
 
 @RestController
 @RequestMapping("/api/reports")
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportGenerationService reportGenerationService;
+    private final ReportStreamService reportStreamService;
+    private final CollectionVersionService collectionVersionService;
 
-    public ReportController(ReportService reportService) {
+    public ReportController(ReportService reportService,
+            ReportGenerationService reportGenerationService,
+            ReportStreamService reportStreamService,
+            CollectionVersionService collectionVersionService) {
         this.reportService = reportService;
+        this.reportGenerationService = reportGenerationService;
+        this.reportStreamService = reportStreamService;
+        this.collectionVersionService = collectionVersionService;
+    }
+
+    @PostMapping("/me")
+    public ResponseEntity<ReportJobResponse> generateReport(JwtAuthenticationToken token) {
+        ReportJobResponse job = reportGenerationService.enqueue(token);
+        return ResponseEntity.accepted().location(URI.create("/api/reports/me/jobs/" + job.jobId()))
+                .body(job);
+    }
+
+    @GetMapping(value = "/me/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamReport(JwtAuthenticationToken token) {
+        return reportStreamService.stream(token);
+    }
+
+    @GetMapping("/me/jobs/{jobId}")
+    public ResponseEntity<ReportJobResponse> getReportJob(@PathVariable String jobId,
+            JwtAuthenticationToken token) {
+        return ResponseEntity.ok(reportGenerationService.getJob(jobId, token));
     }
 
     @GetMapping("/me")
-    public ResponseEntity<List<ReportResponse>> getUserReports(JwtAuthenticationToken token) {
-        return ResponseEntity.ok(reportService.listAllUserReports(token));
+    public ResponseEntity<ReportPageResponse> getUserReports(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size, JwtAuthenticationToken token,
+            WebRequest request) {
+        String etag = collectionVersionService.etag(token, VersionedCollection.REPORTS);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache().cachePrivate())
+                .body(reportService.listUserReports(cursor, size, token));
     }
 
     @GetMapping("/me/latest")
     public ResponseEntity<ReportResponse> getUserLatestReport(JwtAuthenticationToken token) {
         return ResponseEntity.ok(reportService.getUserLastReport(token));
     }
+
+    @GetMapping("/me/{reportId}")
+    public ResponseEntity<ReportResponse> getUserReport(@PathVariable Long reportId,
+            JwtAuthenticationToken token) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(1)).cachePrivate())
+                .body(reportService.getUserReport(reportId, token));
+    }
 }
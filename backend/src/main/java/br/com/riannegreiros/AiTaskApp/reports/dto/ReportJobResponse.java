@@ -0,0 +1,6 @@
+package br.com.riannegreiros.AiTaskApp.reports.dto;
+
+import br.com.riannegreiros.AiTaskApp.reports.model.ReportJobState;
+
+public record ReportJobResponse(String jobId, ReportJobState status, Long reportId, String error) {
+}
@@ -0,0 +1,6 @@
+package br.com.riannegreiros.AiTaskApp.reports.dto;
+
+import java.util.List;
+
+public record ReportPageResponse(List<ReportSummaryResponse> items, String nextCursor) {
+}
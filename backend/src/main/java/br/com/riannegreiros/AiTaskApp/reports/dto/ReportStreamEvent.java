@@ -0,0 +1,16 @@
+package br.com.riannegreiros.AiTaskApp.reports.dto;
+
+public record ReportStreamEvent(String text, Long reportId, String error) {
+
+    public static ReportStreamEvent token(String text) {
+        return new ReportStreamEvent(text, null, null);
+    }
+
+    public static ReportStreamEvent done(Long reportId) {
+        return new ReportStreamEvent(null, reportId, null);
+    }
+
+    public static ReportStreamEvent failure(String error) {
+        return new ReportStreamEvent(null, null, error);
+    }
+}
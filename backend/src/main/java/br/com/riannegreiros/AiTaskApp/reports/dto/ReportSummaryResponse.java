@@ -0,0 +1,6 @@
+package br.com.riannegreiros.AiTaskApp.reports.dto;
+
+import java.time.LocalDateTime;
+
+public record ReportSummaryResponse(Long id, String excerpt, LocalDateTime createdAt) {
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import org.hibernate.annotations.CreationTimestamp;
 import br.com.riannegreiros.AiTaskApp.auth.model.User;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -16,6 +17,8 @@ import jakarta.persistence.Table;
 @Entity
 @Table(name = "tb_reports")
 public class Report {
+    private static final int EXCERPT_LENGTH = 200;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -24,9 +27,13 @@ public class Report {
     @JoinColumn(name = "user_id")
     private User user;
 
-    @Column(columnDefinition = "TEXT")
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "BYTEA")
     private String content;
 
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;
+
     @CreationTimestamp
     @Column(name = "created_at")
     private LocalDateTime createdAt;
@@ -35,7 +42,7 @@ public class Report {
 
     public Report(User user, String content) {
         this.user = user;
-        this.content = content;
+        setContent(content);
     }
 
     public Long getId() {
@@ -60,6 +67,11 @@ public class Report {
 
     public void setContent(String content) {
         this.content = content;
+        this.excerpt = excerptOf(content);
+    }
+
+    public String getExcerpt() {
+        return excerpt;
     }
 
     public LocalDateTime getCreatedAt() {
@@ -69,4 +81,15 @@ public class Report {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    private static String excerptOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        String text = content.replaceAll("[#*_`>]+", "").replaceAll("\\s+", " ").strip();
+        if (text.length() <= EXCERPT_LENGTH) {
+            return text;
+        }
+        return text.substring(0, EXCERPT_LENGTH - 1) + "\u2026";
+    }
 }
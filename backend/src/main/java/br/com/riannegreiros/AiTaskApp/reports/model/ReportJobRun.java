@@ -0,0 +1,125 @@
+package br.com.riannegreiros.AiTaskApp.reports.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "tb_report_job_runs")
+public class ReportJobRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_date")
+    private LocalDate runDate;
+
+    @Enumerated(EnumType.STRING)
+    private ReportJobStatus status;
+
+    @Column(name = "last_user_id")
+    private Long lastUserId = 0L;
+
+    private int succeeded;
+    private int skipped;
+    private int failed;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "tb_report_job_run_failures",
+            joinColumns = @JoinColumn(name = "run_id"))
+    @Column(name = "user_id")
+    private Set<Long> failedUserIds = new HashSet<>();
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public ReportJobRun() {}
+
+    public ReportJobRun(LocalDate runDate) {
+        this.runDate = runDate;
+        this.status = ReportJobStatus.RUNNING;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getRunDate() {
+        return runDate;
+    }
+
+    public ReportJobStatus getStatus() {
+        return status;
+    }
+
+    public Long getLastUserId() {
+        return lastUserId;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public Set<Long> getFailedUserIds() {
+        return failedUserIds;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void checkpoint(Long lastUserId, int succeeded, int skipped,
+            Collection<Long> failedUserIds) {
+        this.lastUserId = lastUserId;
+        this.succeeded += succeeded;
+        this.skipped += skipped;
+        this.failed += failedUserIds.size();
+        this.failedUserIds.addAll(failedUserIds);
+    }
+
+    public void recover(Long userId, boolean generated) {
+        if (failedUserIds.remove(userId)) {
+            failed--;
+            if (generated) {
+                succeeded++;
+            } else {
+                skipped++;
+            }
+        }
+    }
+
+    public void complete() {
+        this.status = ReportJobStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
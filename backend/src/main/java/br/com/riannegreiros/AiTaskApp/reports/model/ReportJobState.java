@@ -0,0 +1,5 @@
+package br.com.riannegreiros.AiTaskApp.reports.model;
+
+public enum ReportJobState {
+    QUEUED, RUNNING, DONE, FAILED
+}
@@ -0,0 +1,5 @@
+package br.com.riannegreiros.AiTaskApp.reports.model;
+
+public enum ReportJobStatus {
+    RUNNING, COMPLETED
+}
@@ -0,0 +1,16 @@
+package br.com.riannegreiros.AiTaskApp.reports.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import br.com.riannegreiros.AiTaskApp.reports.model.ReportJobRun;
+import br.com.riannegreiros.AiTaskApp.reports.model.ReportJobStatus;
+
+@Repository
+public interface ReportJobRunRepository extends JpaRepository<ReportJobRun, Long> {
+    Optional<ReportJobRun> findByRunDate(LocalDate runDate);
+
+    List<ReportJobRun> findAllByStatus(ReportJobStatus status);
+}
@@ -2,18 +2,39 @@ package br.com.riannegreiros.AiTaskApp.reports.repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import br.com.riannegreiros.AiTaskApp.reports.dto.ReportSummaryResponse;
 import br.com.riannegreiros.AiTaskApp.reports.model.Report;
 
 @Repository
 public interface ReportRepository extends JpaRepository<Report, Long> {
-    List<Report> findAllByUserId(Long userId);
+    Optional<Report> findByIdAndUserId(Long id, Long userId);
 
     boolean existsByUserIdAndCreatedAtAfter(Long userId, LocalDateTime from);
 
-    @Query("SELECT r FROM Report r WHERE r.user.id = :userId ORDER BY r.createdAt DESC LIMIT 1")
+    @Query("""
+            SELECT r FROM Report r WHERE r.user.id = :userId
+            ORDER BY r.createdAt DESC, r.id DESC LIMIT 1""")
     Report findLastReportByUserId(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT new br.com.riannegreiros.AiTaskApp.reports.dto.ReportSummaryResponse(
+                r.id, r.excerpt, r.createdAt)
+            FROM Report r WHERE r.user.id = :userId
+            ORDER BY r.createdAt DESC, r.id DESC""")
+    List<ReportSummaryResponse> findSummaries(@Param("userId") Long userId, Limit limit);
+
+    @Query("""
+            SELECT new br.com.riannegreiros.AiTaskApp.reports.dto.ReportSummaryResponse(
+                r.id, r.excerpt, r.createdAt)
+            FROM Report r WHERE r.user.id = :userId
+            AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))
+            ORDER BY r.createdAt DESC, r.id DESC""")
+    List<ReportSummaryResponse> findSummariesBefore(@Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
 }
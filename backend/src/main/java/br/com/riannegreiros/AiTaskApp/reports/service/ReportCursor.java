@@ -0,0 +1,35 @@
+package br.com.riannegreiros.AiTaskApp.reports.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import br.com.riannegreiros.AiTaskApp.infra.exception.InvalidCursorException;
+import br.com.riannegreiros.AiTaskApp.reports.dto.ReportSummaryResponse;
+
+record ReportCursor(LocalDateTime createdAt, Long id) {
+    private static final String PREFIX = "REPORTS";
+
+    static ReportCursor of(ReportSummaryResponse report) {
+        return new ReportCursor(report.createdAt(), report.id());
+    }
+
+    static ReportCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != 3 || !PREFIX.equals(parts[0])) {
+                throw new InvalidCursorException("Cursor does not match a report listing");
+            }
+            return new ReportCursor(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String raw = PREFIX + "|" + createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
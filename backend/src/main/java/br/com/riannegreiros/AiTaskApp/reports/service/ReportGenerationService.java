@@ -0,0 +1,140 @@
+package br.com.riannegreiros.AiTaskApp.reports.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Service;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import br.com.riannegreiros.AiTaskApp.auth.service.PrincipalResolver;
+import br.com.riannegreiros.AiTaskApp.infra.exception.ReportJobNotFoundException;
+import br.com.riannegreiros.AiTaskApp.infra.exception.ReportQueueFullException;
+import br.com.riannegreiros.AiTaskApp.reports.dto.ReportJobResponse;
+import br.com.riannegreiros.AiTaskApp.reports.model.Report;
+import br.com.riannegreiros.AiTaskApp.reports.model.ReportJobState;
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class ReportGenerationService {
+
+    private record Job(String id, Long userId, ReportJobState state, Long reportId, String error) {
+        Job with(ReportJobState state, Long reportId, String error) {
+            return new Job(id, userId, state, reportId, error);
+        }
+    }
+
+    private final ReportService reportService;
+    private final PrincipalResolver principalResolver;
+    private final ThreadPoolTaskExecutor executor;
+    private final Cache<String, Job> jobs;
+    private final Map<Long, String> activeJobs = new ConcurrentHashMap<>();
+
+    public ReportGenerationService(ReportService reportService, PrincipalResolver principalResolver,
+            @Value("${app.reports.generation.threads}") int threads,
+            @Value("${app.reports.generation.queue-capacity}") int queueCapacity,
+            @Value("${app.reports.generation.job-ttl}") long jobTtlSeconds) {
+        this.reportService = reportService;
+        this.principalResolver = principalResolver;
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(threads);
+        this.executor.setMaxPoolSize(threads);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("report-generation-");
+        this.executor.setWaitForTasksToCompleteOnShutdown(true);
+        this.executor.initialize();
+        this.jobs = Caffeine.newBuilder().maximumSize(100_000)
+                .expireAfterWrite(Duration.ofSeconds(jobTtlSeconds)).build();
+    }
+
+    public ReportJobResponse enqueue(JwtAuthenticationToken token) {
+        Long userId = principalResolver.userId(token);
+        Job job = new Job(UUID.randomUUID().toString(), userId, ReportJobState.QUEUED, null, null);
+
+        String activeJobId = activeJobs.putIfAbsent(userId, job.id());
+        if (activeJobId != null) {
+            Job active = jobs.getIfPresent(activeJobId);
+            if (active != null) {
+                return toResponse(active);
+            }
+            activeJobs.put(userId, job.id());
+        }
+
+        jobs.put(job.id(), job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            jobs.invalidate(job.id());
+            activeJobs.remove(userId, job.id());
+            throw new ReportQueueFullException(
+                    "Report generation queue is full, please try again later");
+        }
+        return toResponse(job);
+    }
+
+    public Optional<String> startStream(Long userId) {
+        Job job = new Job(UUID.randomUUID().toString(), userId, ReportJobState.RUNNING, null, null);
+
+        String activeJobId = activeJobs.putIfAbsent(userId, job.id());
+        if (activeJobId != null) {
+            if (jobs.getIfPresent(activeJobId) != null
+                    || !activeJobs.replace(userId, activeJobId, job.id())) {
+                return Optional.empty();
+            }
+        }
+
+        jobs.put(job.id(), job);
+        return Optional.of(job.id());
+    }
+
+    public void finishStream(Long userId, String jobId, Long reportId) {
+        finish(userId, jobId, ReportJobState.DONE, reportId, null);
+    }
+
+    public void failStream(Long userId, String jobId, String error) {
+        finish(userId, jobId, ReportJobState.FAILED, null, error);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public ReportJobResponse getJob(String jobId, JwtAuthenticationToken token) {
+        Job job = jobs.getIfPresent(jobId);
+        if (job == null || !job.userId().equals(principalResolver.userId(token))) {
+            throw new ReportJobNotFoundException("Report job not found with ID: " + jobId);
+        }
+        return toResponse(job);
+    }
+
+    private void run(Job job) {
+        jobs.put(job.id(), job.with(ReportJobState.RUNNING, null, null));
+        try {
+            Long reportId = reportService.generateReport(job.userId()).map(Report::getId)
+                    .orElseGet(() -> reportService.latestReportId(job.userId()));
+            jobs.put(job.id(), job.with(ReportJobState.DONE, reportId, null));
+        } catch (Exception e) {
+            jobs.put(job.id(), job.with(ReportJobState.FAILED, null, e.getMessage()));
+        } finally {
+            activeJobs.remove(job.userId(), job.id());
+        }
+    }
+
+    private void finish(Long userId, String jobId, ReportJobState state, Long reportId,
+            String error) {
+        jobs.asMap().computeIfPresent(jobId, (id, job) -> job.state() == ReportJobState.RUNNING
+                ? job.with(state, reportId, error)
+                : job);
+        activeJobs.remove(userId, jobId);
+    }
+
+    private ReportJobResponse toResponse(Job job) {
+        return new ReportJobResponse(job.id(), job.state(), job.reportId(), job.error());
+    }
+}
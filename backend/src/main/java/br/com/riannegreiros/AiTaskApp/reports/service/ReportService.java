@@ -4,101 +4,135 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import br.com.riannegreiros.AiTaskApp.ai.dto.AiResponse;
 import br.com.riannegreiros.AiTaskApp.ai.service.AiService;
-import br.com.riannegreiros.AiTaskApp.auth.model.User;
 import br.com.riannegreiros.AiTaskApp.auth.repository.UserRepository;
-import br.com.riannegreiros.AiTaskApp.infra.exception.UserNotFoundException;
+import br.com.riannegreiros.AiTaskApp.auth.service.PrincipalResolver;
+import br.com.riannegreiros.AiTaskApp.infra.exception.ReportNotFoundException;
+import br.com.riannegreiros.AiTaskApp.infra.version.CollectionVersionService;
+import br.com.riannegreiros.AiTaskApp.infra.version.VersionedCollection;
+import br.com.riannegreiros.AiTaskApp.reports.dto.ReportPageResponse;
 import br.com.riannegreiros.AiTaskApp.reports.dto.ReportResponse;
+import br.com.riannegreiros.AiTaskApp.reports.dto.ReportSummaryResponse;
 import br.com.riannegreiros.AiTaskApp.reports.model.Report;
 import br.com.riannegreiros.AiTaskApp.reports.repository.ReportRepository;
 import br.com.riannegreiros.AiTaskApp.tags.model.Tag;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskStatsResponse;
 import br.com.riannegreiros.AiTaskApp.tasks.model.Priority;
 import br.com.riannegreiros.AiTaskApp.tasks.model.Task;
 import br.com.riannegreiros.AiTaskApp.tasks.repository.TaskRepository;
+import br.com.riannegreiros.AiTaskApp.tasks.service.TaskStatsService;
 
 @Service
 public class ReportService {
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final ReportRepository reportRepository;
     private final AiService aiService;
+    private final PrincipalResolver principalResolver;
+    private final TaskStatsService taskStatsService;
+    private final CollectionVersionService collectionVersionService;
+    private final ReportService self;
 
     public ReportService(TaskRepository taskRepository, UserRepository userRepository,
-            ReportRepository reportRepository, AiService aiService) {
+            ReportRepository reportRepository, AiService aiService,
+            PrincipalResolver principalResolver, TaskStatsService taskStatsService,
+            CollectionVersionService collectionVersionService, @Lazy ReportService self) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
         this.reportRepository = reportRepository;
         this.aiService = aiService;
+        this.principalResolver = principalResolver;
+        this.taskStatsService = taskStatsService;
+        this.collectionVersionService = collectionVersionService;
+        this.self = self;
     }
 
+    @Transactional(readOnly = true)
     public ReportResponse getUserLastReport(JwtAuthenticationToken token) {
-        User user = getUser(token);
-
-        Report report = reportRepository.findLastReportByUserId(user.getId());
+        Report report = reportRepository.findLastReportByUserId(principalResolver.userId(token));
 
         return toResponse(report);
     }
 
-    public List<ReportResponse> listAllUserReports(JwtAuthenticationToken token) {
-        User user = getUser(token);
-        return reportRepository.findAllByUserId(user.getId()).stream().map(this::toResponse)
-                .toList();
+    @Transactional(readOnly = true)
+    public ReportPageResponse listUserReports(String cursor, int size,
+            JwtAuthenticationToken token) {
+        Long userId = principalResolver.userId(token);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<ReportSummaryResponse> reports;
+        if (cursor == null || cursor.isBlank()) {
+            reports = reportRepository.findSummaries(userId, limit);
+        } else {
+            ReportCursor after = ReportCursor.decode(cursor);
+            reports = reportRepository.findSummariesBefore(userId, after.createdAt(), after.id(),
+                    limit);
+        }
+
+        String nextCursor = null;
+        if (reports.size() > pageSize) {
+            reports = reports.subList(0, pageSize);
+            nextCursor = ReportCursor.of(reports.getLast()).encode();
+        }
+        return new ReportPageResponse(reports, nextCursor);
     }
 
-    public void generateReport(JwtAuthenticationToken token) {
-        User user = getUser(token);
-
-        LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
-        boolean alreadyGenerated =
-                reportRepository.existsByUserIdAndCreatedAtAfter(user.getId(), sevenDaysAgo);
-        if (alreadyGenerated)
-            return;
-
-        List<Task> tasks = taskRepository.findByUserIdAndCreatedAtAfter(user.getId(), sevenDaysAgo);
-
-        if (tasks.isEmpty())
-            return;
-
-        AiResponse aiResponse = aiService.processPrompt(buildPrompt(tasks));
-
-        Report report = new Report();
-        report.setUser(userRepository.getReferenceById(user.getId()));
-        report.setContent(aiResponse.report());
-        reportRepository.save(report);
+    @Transactional(readOnly = true)
+    public ReportResponse getUserReport(Long reportId, JwtAuthenticationToken token) {
+        return reportRepository.findByIdAndUserId(reportId, principalResolver.userId(token))
+                .map(this::toResponse)
+                .orElseThrow(() -> new ReportNotFoundException("Report not found"));
     }
 
-    public void generateReport(Long userId) {
+    public Optional<Report> generateReport(Long userId) {
+        return weeklyPrompt(userId).map(prompt -> {
+            AiResponse aiResponse = aiService.processPrompt(prompt);
+            return self.saveReport(userId, aiResponse.report());
+        });
+    }
 
+    Optional<String> weeklyPrompt(Long userId) {
         LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
         boolean alreadyGenerated =
                 reportRepository.existsByUserIdAndCreatedAtAfter(userId, sevenDaysAgo);
         if (alreadyGenerated)
-            return;
+            return Optional.empty();
 
         List<Task> tasks = taskRepository.findByUserIdAndCreatedAtAfter(userId, sevenDaysAgo);
 
         if (tasks.isEmpty())
-            return;
+            return Optional.empty();
 
-        AiResponse aiResponse = aiService.processPrompt(buildPrompt(tasks));
+        return Optional.of(buildPrompt(taskStatsService.getStats(userId), tasks));
+    }
 
+    @Transactional
+    Report saveReport(Long userId, String content) {
         Report report = new Report();
         report.setUser(userRepository.getReferenceById(userId));
-        report.setContent(aiResponse.report());
-        reportRepository.save(report);
+        report.setContent(content);
+        report = reportRepository.save(report);
+        collectionVersionService.bump(userId, VersionedCollection.REPORTS);
+        return report;
     }
 
-    private User getUser(JwtAuthenticationToken token) {
-        return userRepository.findById(Long.parseLong(token.getName())).orElseThrow(
-                () -> new UserNotFoundException("User not found with ID: " + token.getName()));
+    Long latestReportId(Long userId) {
+        Report report = reportRepository.findLastReportByUserId(userId);
+        return report != null ? report.getId() : null;
     }
 
-    private String buildPrompt(List<Task> tasks) {
+    String buildPrompt(TaskStatsResponse stats, List<Task> tasks) {
         OffsetDateTime now = OffsetDateTime.now();
 
         long completed = tasks.stream().filter(Task::isCompleted).count();
@@ -125,7 +159,7 @@ public class ReportService {
                 """
                         You are a productivity assistant. Analyze this user's current tasks and provide insights.
 
-                        SUMMARY:
+                        SUMMARY (tasks created in the last 7 days):
                         - Total tasks: %d
                         - Completed: %d
                         - Pending: %d
@@ -133,7 +167,14 @@ public class ReportService {
                         - Critical priority pending: %d
                         - Most used tags: %s
 
-                        PENDING TASKS:
+                        ALL-TIME CONTEXT (every task the user has):
+                        - Total tasks: %d
+                        - Completed: %d
+                        - Pending: %d
+                        - Critical priority pending: %d
+                        - Most used tags: %s
+
+                        PENDING TASKS (created in the last 7 days):
                         %s
 
                         Based on this, provide:
@@ -150,6 +191,10 @@ public class ReportService {
                                 .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
                                 .map(e -> e.getKey() + " (" + e.getValue() + ")")
                                 .collect(Collectors.joining(", ")),
+                stats.total(), stats.completed(), stats.pending(), stats.criticalPending(),
+                stats.tags().isEmpty() ? "none"
+                        : stats.tags().stream().map(tag -> tag.name() + " (" + tag.taskCount() + ")")
+                                .collect(Collectors.joining(", ")),
                 pendingTasksList.isEmpty() ? "  (no pending tasks)" : pendingTasksList);
     }
 
@@ -0,0 +1,107 @@
+package br.com.riannegreiros.AiTaskApp.reports.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import br.com.riannegreiros.AiTaskApp.ai.service.AiService;
+import br.com.riannegreiros.AiTaskApp.auth.service.PrincipalResolver;
+import br.com.riannegreiros.AiTaskApp.reports.dto.ReportStreamEvent;
+import br.com.riannegreiros.AiTaskApp.reports.model.Report;
+import reactor.core.Disposable;
+
+@Service
+public class ReportStreamService {
+
+    private final ReportService reportService;
+    private final ReportGenerationService reportGenerationService;
+    private final AiService aiService;
+    private final PrincipalResolver principalResolver;
+    private final long timeoutMillis;
+
+    public ReportStreamService(ReportService reportService,
+            ReportGenerationService reportGenerationService, AiService aiService,
+            PrincipalResolver principalResolver,
+            @Value("${app.reports.stream.timeout}") long timeoutSeconds) {
+        this.reportService = reportService;
+        this.reportGenerationService = reportGenerationService;
+        this.aiService = aiService;
+        this.principalResolver = principalResolver;
+        this.timeoutMillis = Duration.ofSeconds(timeoutSeconds).toMillis();
+    }
+
+    public SseEmitter stream(JwtAuthenticationToken token) {
+        Long userId = principalResolver.userId(token);
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+
+        Optional<String> jobId = reportGenerationService.startStream(userId);
+        if (jobId.isEmpty()) {
+            finish(emitter, ReportStreamEvent.failure("A report is already being generated"));
+            return emitter;
+        }
+
+        Optional<String> prompt;
+        try {
+            prompt = reportService.weeklyPrompt(userId);
+        } catch (RuntimeException e) {
+            reportGenerationService.failStream(userId, jobId.get(), e.getMessage());
+            throw e;
+        }
+        if (prompt.isEmpty()) {
+            Long reportId = reportService.latestReportId(userId);
+            reportGenerationService.finishStream(userId, jobId.get(), reportId);
+            finish(emitter, ReportStreamEvent.done(reportId));
+            return emitter;
+        }
+
+        StringBuilder content = new StringBuilder();
+        Disposable subscription = aiService.streamPrompt(prompt.get()).subscribe(text -> {
+            content.append(text);
+            send(emitter, "token", ReportStreamEvent.token(text));
+        }, error -> {
+            reportGenerationService.failStream(userId, jobId.get(), error.getMessage());
+            finish(emitter, ReportStreamEvent.failure(error.getMessage()));
+        }, () -> {
+            Report report;
+            try {
+                report = reportService.saveReport(userId, content.toString());
+            } catch (RuntimeException e) {
+                reportGenerationService.failStream(userId, jobId.get(), e.getMessage());
+                finish(emitter, ReportStreamEvent.failure(e.getMessage()));
+                return;
+            }
+            reportGenerationService.finishStream(userId, jobId.get(), report.getId());
+            finish(emitter, ReportStreamEvent.done(report.getId()));
+        });
+
+        Runnable cancel = () -> {
+            subscription.dispose();
+            reportGenerationService.failStream(userId, jobId.get(), "Report stream was closed");
+        };
+        emitter.onTimeout(cancel);
+        emitter.onError(e -> cancel.run());
+        return emitter;
+    }
+
+    private void finish(SseEmitter emitter, ReportStreamEvent event) {
+        try {
+            send(emitter, event.error() != null ? "error" : "done", event);
+            emitter.complete();
+        } catch (RuntimeException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void send(SseEmitter emitter, String name, ReportStreamEvent event) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(event, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
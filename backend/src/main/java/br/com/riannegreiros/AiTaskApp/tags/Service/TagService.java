@@ -1,46 +1,69 @@
 package br.com.riannegreiros.AiTaskApp.tags.Service;
 
 import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import br.com.riannegreiros.AiTaskApp.auth.model.User;
-import br.com.riannegreiros.AiTaskApp.auth.repository.UserRepository;
+import br.com.riannegreiros.AiTaskApp.auth.service.PrincipalResolver;
+import br.com.riannegreiros.AiTaskApp.events.dto.UserEvent;
 import br.com.riannegreiros.AiTaskApp.infra.exception.TagNotFoundException;
-import br.com.riannegreiros.AiTaskApp.infra.exception.UserNotFoundException;
+import br.com.riannegreiros.AiTaskApp.infra.version.CollectionVersionService;
+import br.com.riannegreiros.AiTaskApp.infra.version.VersionedCollection;
 import br.com.riannegreiros.AiTaskApp.tags.model.Tag;
 import br.com.riannegreiros.AiTaskApp.tags.model.dto.TagRequest;
 import br.com.riannegreiros.AiTaskApp.tags.model.dto.TagResponse;
 import br.com.riannegreiros.AiTaskApp.tags.repository.TagRepository;
+import br.com.riannegreiros.AiTaskApp.tasks.service.TaskService;
+import br.com.riannegreiros.AiTaskApp.tasks.service.TaskStatsService;
 
 @Service
 public class TagService {
     private final TagRepository tagRepository;
-    private final UserRepository userRepository;
+    private final PrincipalResolver principalResolver;
+    private final TaskStatsService taskStatsService;
+    private final CollectionVersionService collectionVersionService;
+    private final TaskService taskService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TagService(TagRepository tagRepository, UserRepository userRepository) {
+    public TagService(TagRepository tagRepository, PrincipalResolver principalResolver,
+            TaskStatsService taskStatsService, CollectionVersionService collectionVersionService,
+            TaskService taskService, ApplicationEventPublisher eventPublisher) {
         this.tagRepository = tagRepository;
-        this.userRepository = userRepository;
+        this.principalResolver = principalResolver;
+        this.taskStatsService = taskStatsService;
+        this.collectionVersionService = collectionVersionService;
+        this.taskService = taskService;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Transactional
     public TagResponse createTag(TagRequest request, JwtAuthenticationToken token) {
-        User user = getUser(token);
+        User user = principalResolver.userReference(token);
         Tag tag = tagRepository.save(new Tag(request.name(), user));
-        return toResponse(tag);
+        taskStatsService.initializeTag(tag);
+        collectionVersionService.bump(user.getId(), VersionedCollection.TAGS);
+        TagResponse response = toResponse(tag);
+        eventPublisher.publishEvent(UserEvent.tagCreated(user.getId(), response));
+        return response;
     }
 
+    @Transactional(readOnly = true)
     public List<TagResponse> listTags(JwtAuthenticationToken token) {
-        User user = getUser(token);
-        return tagRepository.findAllByUserId(user.getId()).stream().map(this::toResponse).toList();
+        return tagRepository.findAllByUserId(principalResolver.userId(token)).stream()
+                .map(this::toResponse).toList();
     }
 
+    @Transactional
     public void deleteTag(String id, JwtAuthenticationToken token) {
-        tagRepository.delete(tagRepository.findById(Long.parseLong(id))
-                .orElseThrow(() -> new TagNotFoundException("Tag not found with ID: " + id)));
-    }
-
-    private User getUser(JwtAuthenticationToken token) {
-        return userRepository.findById(Long.parseLong(token.getName())).orElseThrow(
-                () -> new UserNotFoundException("User not found with ID: " + token.getName()));
+        Long userId = principalResolver.userId(token);
+        Tag tag = tagRepository.findByIdAndUserId(Long.parseLong(id), userId)
+                .orElseThrow(() -> new TagNotFoundException("Tag not found with ID: " + id));
+        taskService.markTagRemoved(tag.getId(), userId);
+        tagRepository.delete(tag);
+        collectionVersionService.bump(userId, VersionedCollection.TAGS);
+        eventPublisher.publishEvent(UserEvent.tagDeleted(userId, tag.getId()));
     }
 
     private TagResponse toResponse(Tag tag) {
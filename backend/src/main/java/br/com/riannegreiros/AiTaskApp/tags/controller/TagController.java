@@ -1,6 +1,7 @@
 package br.com.riannegreiros.AiTaskApp.tags.controller;
 
 import java.util.List;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -10,6 +11,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import br.com.riannegreiros.AiTaskApp.infra.version.CollectionVersionService;
+import br.com.riannegreiros.AiTaskApp.infra.version.VersionedCollection;
 import br.com.riannegreiros.AiTaskApp.tags.Service.TagService;
 import br.com.riannegreiros.AiTaskApp.tags.model.dto.TagRequest;
 import br.com.riannegreiros.AiTaskApp.tags.model.dto.TagResponse;
@@ -18,9 +22,12 @@ import br.com.riannegreiros.AiTaskApp.tags.model.dto.TagResponse;
 @RequestMapping("/api/tags")
 public class TagController {
     private final TagService tagService;
+    private final CollectionVersionService collectionVersionService;
 
-    public TagController(TagService tagService) {
+    public TagController(TagService tagService,
+            CollectionVersionService collectionVersionService) {
         this.tagService = tagService;
+        this.collectionVersionService = collectionVersionService;
     }
 
     @PostMapping
@@ -29,8 +36,14 @@ public class TagController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<List<TagResponse>> getUserTags(JwtAuthenticationToken token) {
-        return ResponseEntity.ok(tagService.listTags(token));
+    public ResponseEntity<List<TagResponse>> getUserTags(JwtAuthenticationToken token,
+            WebRequest request) {
+        String etag = collectionVersionService.etag(token, VersionedCollection.TAGS);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache().cachePrivate())
+                .body(tagService.listTags(token));
     }
 
     @DeleteMapping("/me/{id}")
@@ -1,6 +1,10 @@
 package br.com.riannegreiros.AiTaskApp.tasks.controller;
 
+import java.util.Comparator;
 import java.util.List;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -10,21 +14,45 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import br.com.riannegreiros.AiTaskApp.infra.version.CollectionVersionService;
+import br.com.riannegreiros.AiTaskApp.infra.version.VersionedCollection;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.CompactTaskPageResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBatchRequest;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBatchResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBoardResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskChangesResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskPageResponse;
 import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskRequest;
 import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskStatsResponse;
 import br.com.riannegreiros.AiTaskApp.tasks.dto.UpdateTaskRequest;
+import br.com.riannegreiros.AiTaskApp.tasks.model.BoardColumn;
+import br.com.riannegreiros.AiTaskApp.tasks.model.TaskSort;
+import br.com.riannegreiros.AiTaskApp.tasks.model.TaskStatus;
 import br.com.riannegreiros.AiTaskApp.tasks.service.TaskService;
+import br.com.riannegreiros.AiTaskApp.tasks.service.TaskStatsService;
 import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/api/tasks")
 public class TaskController {
+    public static final String COMPACT_JSON_VALUE = "application/vnd.aitask.compact+json";
+    private static final MediaType COMPACT_JSON = MediaType.parseMediaType(COMPACT_JSON_VALUE);
+
     private final TaskService taskService;
+    private final TaskStatsService taskStatsService;
+    private final CollectionVersionService collectionVersionService;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskStatsService taskStatsService,
+            CollectionVersionService collectionVersionService) {
         this.taskService = taskService;
+        this.taskStatsService = taskStatsService;
+        this.collectionVersionService = collectionVersionService;
     }
 
     @PostMapping
@@ -33,9 +61,90 @@ public class TaskController {
         return ResponseEntity.ok(taskService.saveTask(request, token));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResponse> applyBatch(
+            @Valid @RequestBody TaskBatchRequest request, JwtAuthenticationToken token) {
+        return ResponseEntity.ok(taskService.applyBatch(request, token));
+    }
+
     @GetMapping("/me")
-    public ResponseEntity<List<TaskResponse>> listAllUserTasks(JwtAuthenticationToken token) {
-        return ResponseEntity.ok(taskService.listAllUserTasks(token));
+    public ResponseEntity<TaskPageResponse> listUserTasks(
+            @RequestParam(defaultValue = "CREATED_AT") TaskSort sort,
+            @RequestParam(defaultValue = "ALL") TaskStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size, JwtAuthenticationToken token,
+            WebRequest request) {
+        String etag = collectionVersionService.etag(token, VersionedCollection.TASKS);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(taskService.listUserTasks(sort, status, cursor, size, token));
+    }
+
+    @GetMapping(value = "/me", produces = {COMPACT_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<CompactTaskPageResponse> listUserTasksCompact(
+            @RequestParam(defaultValue = "CREATED_AT") TaskSort sort,
+            @RequestParam(defaultValue = "ALL") TaskStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestHeader(HttpHeaders.ACCEPT) String accept, JwtAuthenticationToken token,
+            WebRequest request) {
+        String etag = compactETag(collectionVersionService.etag(token, VersionedCollection.TASKS),
+                accept);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT).body(CompactTaskPageResponse
+                        .of(taskService.listUserTasks(sort, status, cursor, size, token)));
+    }
+
+    @GetMapping("/me/search")
+    public ResponseEntity<TaskPageResponse> searchUserTasks(@RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size, JwtAuthenticationToken token) {
+        return ResponseEntity.ok(taskService.searchUserTasks(q, cursor, size, token));
+    }
+
+    @GetMapping(value = "/me/search",
+            produces = {COMPACT_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<CompactTaskPageResponse> searchUserTasksCompact(@RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size, JwtAuthenticationToken token) {
+        TaskPageResponse page = taskService.searchUserTasks(q, cursor, size, token);
+        return ResponseEntity.ok(CompactTaskPageResponse.of(page));
+    }
+
+    @GetMapping("/me/changes")
+    public ResponseEntity<TaskChangesResponse> listChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "200") int size, JwtAuthenticationToken token) {
+        return ResponseEntity.ok(taskService.listChanges(since, size, token));
+    }
+
+    @GetMapping("/me/stats")
+    public ResponseEntity<TaskStatsResponse> getStats(JwtAuthenticationToken token) {
+        return ResponseEntity.ok(taskStatsService.getStats(token));
+    }
+
+    @GetMapping("/me/board")
+    public ResponseEntity<TaskBoardResponse> getBoard(@RequestParam(defaultValue = "20") int size,
+            JwtAuthenticationToken token, WebRequest request) {
+        String etag = collectionVersionService.etag(token, VersionedCollection.TASKS);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache().cachePrivate())
+                .body(taskService.getBoard(size, token));
+    }
+
+    @GetMapping("/me/board/{column}")
+    public ResponseEntity<TaskPageResponse> listBoardColumn(@PathVariable BoardColumn column,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size, JwtAuthenticationToken token) {
+        return ResponseEntity.ok(taskService.listBoardColumn(column, cursor, size, token));
     }
 
     @GetMapping("/me/{id}")
@@ -62,4 +171,24 @@ public class TaskController {
             JwtAuthenticationToken token) {
         return ResponseEntity.ok(taskService.toggleTaskCompleted(id, token));
     }
+
+    private static String compactETag(String etag, String accept) {
+        String format = compactType(accept).equals(MediaType.APPLICATION_CBOR) ? "cbor" : "json";
+        return etag.substring(0, etag.length() - 1) + "-compact-" + format + "\"";
+    }
+
+    private static MediaType compactType(String accept) {
+        List<MediaType> accepted = MediaType.parseMediaTypes(accept).stream()
+                .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                .toList();
+        for (MediaType type : accepted) {
+            if (type.includes(COMPACT_JSON)) {
+                return COMPACT_JSON;
+            }
+            if (type.includes(MediaType.APPLICATION_CBOR)) {
+                return MediaType.APPLICATION_CBOR;
+            }
+        }
+        return COMPACT_JSON;
+    }
 }
@@ -0,0 +1,12 @@
+package br.com.riannegreiros.AiTaskApp.tasks.dto;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Priority;
+
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record CompactTask(Long id, String title, Priority priority, OffsetDateTime dueDate,
+        Boolean completed, String description, int[] tags, LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
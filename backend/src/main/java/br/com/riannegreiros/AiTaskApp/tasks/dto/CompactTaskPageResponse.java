@@ -0,0 +1,34 @@
+package br.com.riannegreiros.AiTaskApp.tasks.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CompactTaskPageResponse(Long userId, List<TagSummary> tags, List<CompactTask> items,
+        String nextCursor) {
+
+    public static CompactTaskPageResponse of(TaskPageResponse page) {
+        Map<Long, Integer> tagIndex = new LinkedHashMap<>();
+        List<TagSummary> tags = new ArrayList<>();
+        List<CompactTask> items = new ArrayList<>(page.items().size());
+        for (TaskResponse task : page.items()) {
+            int[] taskTags = new int[task.tags().size()];
+            for (int i = 0; i < taskTags.length; i++) {
+                TagSummary tag = task.tags().get(i);
+                taskTags[i] = tagIndex.computeIfAbsent(tag.id(), id -> {
+                    tags.add(tag);
+                    return tags.size() - 1;
+                });
+            }
+            items.add(new CompactTask(Long.valueOf(task.id()), task.title(), task.priority(),
+                    task.dueDate(), task.completed(), task.description(), taskTags,
+                    task.createdAt(), task.updatedAt()));
+        }
+        Long userId =
+                page.items().isEmpty() ? null : Long.valueOf(page.items().getFirst().userId());
+        return new CompactTaskPageResponse(userId, tags, items, page.nextCursor());
+    }
+}
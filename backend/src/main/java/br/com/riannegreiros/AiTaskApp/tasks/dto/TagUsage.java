@@ -0,0 +1,4 @@
+package br.com.riannegreiros.AiTaskApp.tasks.dto;
+
+public record TagUsage(Long tagId, String name, long taskCount) {
+}
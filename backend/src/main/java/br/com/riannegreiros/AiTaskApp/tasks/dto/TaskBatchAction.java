@@ -0,0 +1,5 @@
+package br.com.riannegreiros.AiTaskApp.tasks.dto;
+
+public enum TaskBatchAction {
+    CREATE, UPDATE, TOGGLE, DELETE
+}
@@ -0,0 +1,8 @@
+package br.com.riannegreiros.AiTaskApp.tasks.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+public record TaskBatchOperation(@NotNull(message = "Action is required") TaskBatchAction action,
+        String id, @Valid TaskRequest task) {
+}
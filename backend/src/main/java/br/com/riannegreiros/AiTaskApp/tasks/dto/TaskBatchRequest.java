@@ -0,0 +1,12 @@
+package br.com.riannegreiros.AiTaskApp.tasks.dto;
+
+import java.util.List;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record TaskBatchRequest(
+        @NotEmpty(message = "Operations are required") @Size(max = 500,
+                message = "A batch must not exceed 500 operations") List<@Valid @NotNull TaskBatchOperation> operations) {
+}
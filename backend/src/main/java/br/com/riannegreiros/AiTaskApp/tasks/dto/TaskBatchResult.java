@@ -0,0 +1,14 @@
+package br.com.riannegreiros.AiTaskApp.tasks.dto;
+
+public record TaskBatchResult(int index, TaskBatchAction action, String id, boolean success,
+        TaskResponse task, String error) {
+
+    public static TaskBatchResult success(int index, TaskBatchAction action, String id,
+            TaskResponse task) {
+        return new TaskBatchResult(index, action, id, true, task, null);
+    }
+
+    public static TaskBatchResult failure(int index, TaskBatchOperation operation, String error) {
+        return new TaskBatchResult(index, operation.action(), operation.id(), false, null, error);
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.riannegreiros.AiTaskApp.tasks.dto;
+
+import java.util.List;
+import br.com.riannegreiros.AiTaskApp.tasks.model.BoardColumn;
+
+public record TaskBoardColumnResponse(BoardColumn column, long count, List<TaskResponse> items,
+        String nextCursor) {
+}
@@ -0,0 +1,10 @@
+package br.com.riannegreiros.AiTaskApp.tasks.dto;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+
+public record TaskBoardRow(String boardColumn, Long columnCount, Long id, Long userId,
+        String title, String priority, OffsetDateTime dueDate, Boolean completed,
+        String description, LocalDateTime createdAt, LocalDateTime updatedAt, Long[] tagIds,
+        String[] tagNames) {
+}
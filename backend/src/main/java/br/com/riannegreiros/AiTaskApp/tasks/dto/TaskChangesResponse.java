@@ -0,0 +1,11 @@
+package br.com.riannegreiros.AiTaskApp.tasks.dto;
+
+import java.util.List;
+
+public record TaskChangesResponse(List<TaskResponse> changed, List<String> deleted, String cursor,
+        boolean hasMore, boolean resetRequired) {
+
+    public static TaskChangesResponse reset() {
+        return new TaskChangesResponse(List.of(), List.of(), null, false, true);
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.riannegreiros.AiTaskApp.tasks.dto;
+
+import java.time.OffsetDateTime;
+
+public record TaskDueRow(Long id, Long userId, OffsetDateTime dueDate) {
+}
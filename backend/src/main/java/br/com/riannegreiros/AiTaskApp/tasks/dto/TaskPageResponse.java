@@ -0,0 +1,6 @@
+package br.com.riannegreiros.AiTaskApp.tasks.dto;
+
+import java.util.List;
+
+public record TaskPageResponse(List<TaskResponse> items, String nextCursor) {
+}
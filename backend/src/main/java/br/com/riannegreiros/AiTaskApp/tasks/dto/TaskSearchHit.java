@@ -0,0 +1,7 @@
+package br.com.riannegreiros.AiTaskApp.tasks.dto;
+
+public interface TaskSearchHit {
+    Long getId();
+
+    Float getRank();
+}
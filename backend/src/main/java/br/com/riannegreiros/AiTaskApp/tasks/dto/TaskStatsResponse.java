@@ -0,0 +1,7 @@
+package br.com.riannegreiros.AiTaskApp.tasks.dto;
+
+import java.util.List;
+
+public record TaskStatsResponse(long total, long completed, long pending, long overdue,
+        long criticalPending, List<TagUsage> tags) {
+}
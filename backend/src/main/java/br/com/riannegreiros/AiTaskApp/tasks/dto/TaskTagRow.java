@@ -0,0 +1,4 @@
+package br.com.riannegreiros.AiTaskApp.tasks.dto;
+
+public record TaskTagRow(Long taskId, Long tagId, String name) {
+}
@@ -0,0 +1,20 @@
+package br.com.riannegreiros.AiTaskApp.tasks.model;
+
+public enum BoardColumn {
+    CRITICAL(Priority.CRITICAL), HIGH(Priority.HIGH), MEDIUM(Priority.MEDIUM), LOW(Priority.LOW),
+    NONE(null), DONE(null);
+
+    private final Priority priority;
+
+    BoardColumn(Priority priority) {
+        this.priority = priority;
+    }
+
+    public Priority priority() {
+        return priority;
+    }
+
+    public boolean completed() {
+        return this == DONE;
+    }
+}
@@ -1,5 +1,9 @@
 package br.com.riannegreiros.AiTaskApp.tasks.model;
 
 public enum Priority {
-    LOW, MEDIUM, HIGH, CRITICAL
+    LOW, MEDIUM, HIGH, CRITICAL;
+
+    public static int rankOf(Priority priority) {
+        return priority == null ? 0 : priority.ordinal() + 1;
+    }
 }
@@ -0,0 +1,40 @@
+package br.com.riannegreiros.AiTaskApp.tasks.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "tb_task_tag_stats")
+public class TagStats {
+    @Id
+    @Column(name = "tag_id")
+    private Long tagId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "task_count")
+    private long taskCount;
+
+    public TagStats() {}
+
+    public TagStats(Long tagId, Long userId, long taskCount) {
+        this.tagId = tagId;
+        this.userId = userId;
+        this.taskCount = taskCount;
+    }
+
+    public Long getTagId() {
+        return tagId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public long getTaskCount() {
+        return taskCount;
+    }
+}
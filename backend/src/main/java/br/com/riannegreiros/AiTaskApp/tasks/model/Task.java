@@ -4,12 +4,16 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.util.HashSet;
 import java.util.Set;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import br.com.riannegreiros.AiTaskApp.auth.model.User;
 import br.com.riannegreiros.AiTaskApp.tags.model.Tag;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBoardRow;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.ColumnResult;
+import jakarta.persistence.ConstructorResult;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -21,13 +25,31 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.SqlResultSetMapping;
 import jakarta.persistence.Table;
 
 @Entity
 @Table(name = "tb_tasks")
+@SqlResultSetMapping(name = "TaskBoardRow", classes = @ConstructorResult(
+        targetClass = TaskBoardRow.class, columns = {
+                @ColumnResult(name = "board_column", type = String.class),
+                @ColumnResult(name = "column_count", type = Long.class),
+                @ColumnResult(name = "id", type = Long.class),
+                @ColumnResult(name = "user_id", type = Long.class),
+                @ColumnResult(name = "title", type = String.class),
+                @ColumnResult(name = "priority", type = String.class),
+                @ColumnResult(name = "due_date", type = OffsetDateTime.class),
+                @ColumnResult(name = "completed", type = Boolean.class),
+                @ColumnResult(name = "description", type = String.class),
+                @ColumnResult(name = "created_at", type = LocalDateTime.class),
+                @ColumnResult(name = "updated_at", type = LocalDateTime.class),
+                @ColumnResult(name = "tag_ids", type = Long[].class),
+                @ColumnResult(name = "tag_names", type = String[].class)}))
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tb_tasks_id_seq", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -35,6 +57,9 @@ public class Task {
     @Enumerated(EnumType.STRING)
     private Priority priority;
 
+    @Column(name = "priority_rank", insertable = false, updatable = false)
+    private Integer priorityRank;
+
     @Column(name = "due_date")
     private OffsetDateTime dueDate;
 
@@ -47,6 +72,7 @@ public class Task {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    @BatchSize(size = 100)
     @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinTable(name = "tb_task_tags", joinColumns = @JoinColumn(name = "task_id"),
             inverseJoinColumns = @JoinColumn(name = "tag_id"))
@@ -60,6 +86,9 @@ public class Task {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Column(name = "change_seq")
+    private long changeSeq;
+
     public Task(String title, Priority priority, OffsetDateTime dueDate, User user,
             String description) {
         this.title = title;
@@ -95,6 +124,10 @@ public class Task {
         this.priority = priority;
     }
 
+    public Integer getPriorityRank() {
+        return priorityRank;
+    }
+
     public OffsetDateTime getDueDate() {
         return dueDate;
     }
@@ -151,6 +184,14 @@ public class Task {
         this.tags = tags;
     }
 
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public void setChangeSeq(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
     public void toggleTaskCompleted() {
         this.completed = !completed;
     }
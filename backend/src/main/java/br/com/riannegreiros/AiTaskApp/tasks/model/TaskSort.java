@@ -0,0 +1,5 @@
+package br.com.riannegreiros.AiTaskApp.tasks.model;
+
+public enum TaskSort {
+    CREATED_AT, DUE_DATE, PRIORITY
+}
@@ -0,0 +1,62 @@
+package br.com.riannegreiros.AiTaskApp.tasks.model;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "tb_task_stats")
+public class TaskStats {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    private long total;
+    private long completed;
+
+    @Column(name = "critical_pending")
+    private long criticalPending;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public TaskStats() {}
+
+    public TaskStats(Long userId) {
+        this.userId = userId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void reset(long total, long completed, long criticalPending) {
+        this.total = total;
+        this.completed = completed;
+        this.criticalPending = criticalPending;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public long getPending() {
+        return total - completed;
+    }
+
+    public long getCriticalPending() {
+        return criticalPending;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.riannegreiros.AiTaskApp.tasks.model;
+
+public enum TaskStatus {
+    ALL, COMPLETED, PENDING;
+
+    public Boolean completed() {
+        return switch (this) {
+            case ALL -> null;
+            case COMPLETED -> true;
+            case PENDING -> false;
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.riannegreiros.AiTaskApp.tasks.model;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "tb_task_tombstones")
+public class TaskTombstone {
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "change_seq")
+    private long changeSeq;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    public TaskTombstone() {}
+
+    public TaskTombstone(Long taskId, Long userId, long changeSeq) {
+        this.taskId = taskId;
+        this.userId = userId;
+        this.changeSeq = changeSeq;
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+}
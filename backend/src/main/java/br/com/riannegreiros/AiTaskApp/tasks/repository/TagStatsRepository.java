@@ -0,0 +1,29 @@
+package br.com.riannegreiros.AiTaskApp.tasks.repository;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TagUsage;
+import br.com.riannegreiros.AiTaskApp.tasks.model.TagStats;
+
+@Repository
+public interface TagStatsRepository extends JpaRepository<TagStats, Long> {
+    @Query("""
+            SELECT new br.com.riannegreiros.AiTaskApp.tasks.dto.TagUsage(s.tagId, tag.name, s.taskCount)
+            FROM TagStats s JOIN Tag tag ON tag.id = s.tagId
+            WHERE s.userId = :userId AND s.taskCount > 0
+            ORDER BY s.taskCount DESC, tag.name""")
+    List<TagUsage> findUsageByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE TagStats s SET s.taskCount = s.taskCount + :delta WHERE s.tagId IN :tagIds")
+    int increment(@Param("tagIds") Collection<Long> tagIds, @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM TagStats s WHERE s.userId = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+}
@@ -1,17 +1,259 @@
 package br.com.riannegreiros.AiTaskApp.tasks.repository;
 
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.NativeQuery;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBoardRow;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskDueRow;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskSearchHit;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskTagCount;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskTagRow;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Priority;
 import br.com.riannegreiros.AiTaskApp.tasks.model.Task;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findAllByUserId(Long userId);
 
+    @EntityGraph(attributePaths = "tags")
     List<Task> findByUserIdAndCreatedAtAfter(Long userId, LocalDateTime from);
 
     Optional<Task> findByIdAndUserId(Long id, Long userId);
+
+    List<Task> findAllByIdInAndUserId(Collection<Long> ids, Long userId);
+
+    long countByUserId(Long userId);
+
+    long countByUserIdAndCompletedTrue(Long userId);
+
+    long countByUserIdAndCompletedFalseAndPriority(Long userId, Priority priority);
+
+    long countByUserIdAndCompletedFalseAndDueDateBefore(Long userId, OffsetDateTime now);
+
+    @Query("""
+            SELECT new br.com.riannegreiros.AiTaskApp.tasks.dto.TaskTagCount(tag.id, COUNT(t))
+            FROM Task t JOIN t.tags tag WHERE t.user.id = :userId GROUP BY tag.id""")
+    List<TaskTagCount> countTasksByTag(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT t FROM Task t WHERE t.user.id = :userId
+            AND (t.changeSeq > :changeSeq OR (t.changeSeq = :changeSeq AND t.id > :id))
+            ORDER BY t.changeSeq, t.id""")
+    List<Task> findChangesAfter(@Param("userId") Long userId,
+            @Param("changeSeq") long changeSeq, @Param("id") long id, Limit limit);
+
+    @Modifying
+    @Query("""
+            UPDATE Task t SET t.changeSeq = :changeSeq
+            WHERE t.id IN (SELECT t2.id FROM Task t2 JOIN t2.tags tag WHERE tag.id = :tagId)""")
+    int markChangedByTag(@Param("tagId") Long tagId, @Param("changeSeq") long changeSeq);
+
+    @Query("""
+            SELECT new br.com.riannegreiros.AiTaskApp.tasks.dto.TaskTagRow(t.id, tag.id, tag.name)
+            FROM Task t JOIN t.tags tag WHERE t.id IN :taskIds""")
+    List<TaskTagRow> findTagsByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    @Query("""
+            SELECT t FROM Task t WHERE t.user.id = :userId
+            AND (:completed IS NULL OR t.completed = :completed)
+            ORDER BY t.createdAt DESC, t.id DESC""")
+    List<Task> findPageByCreatedAt(@Param("userId") Long userId,
+            @Param("completed") Boolean completed, Limit limit);
+
+    @Query("""
+            SELECT t FROM Task t WHERE t.user.id = :userId
+            AND (:completed IS NULL OR t.completed = :completed)
+            AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id))
+            ORDER BY t.createdAt DESC, t.id DESC""")
+    List<Task> findPageByCreatedAtBefore(@Param("userId") Long userId,
+            @Param("completed") Boolean completed, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Limit limit);
+
+    @Query("""
+            SELECT t FROM Task t WHERE t.user.id = :userId
+            AND (:completed IS NULL OR t.completed = :completed)
+            ORDER BY t.dueDate ASC NULLS LAST, t.id ASC""")
+    List<Task> findPageByDueDate(@Param("userId") Long userId,
+            @Param("completed") Boolean completed, Limit limit);
+
+    @Query("""
+            SELECT t FROM Task t WHERE t.user.id = :userId
+            AND (:completed IS NULL OR t.completed = :completed)
+            AND (t.dueDate > :dueDate OR (t.dueDate = :dueDate AND t.id > :id) OR t.dueDate IS NULL)
+            ORDER BY t.dueDate ASC NULLS LAST, t.id ASC""")
+    List<Task> findPageByDueDateAfter(@Param("userId") Long userId,
+            @Param("completed") Boolean completed, @Param("dueDate") OffsetDateTime dueDate,
+            @Param("id") Long id, Limit limit);
+
+    @Query("""
+            SELECT t FROM Task t WHERE t.user.id = :userId
+            AND (:completed IS NULL OR t.completed = :completed)
+            AND t.dueDate IS NULL AND t.id > :id
+            ORDER BY t.id ASC""")
+    List<Task> findPageWithoutDueDateAfter(@Param("userId") Long userId,
+            @Param("completed") Boolean completed, @Param("id") Long id, Limit limit);
+
+    @Query("""
+            SELECT t FROM Task t WHERE t.user.id = :userId
+            AND (:completed IS NULL OR t.completed = :completed)
+            ORDER BY t.priorityRank DESC, t.id DESC""")
+    List<Task> findPageByPriority(@Param("userId") Long userId,
+            @Param("completed") Boolean completed, Limit limit);
+
+    @Query("""
+            SELECT t FROM Task t WHERE t.user.id = :userId
+            AND (:completed IS NULL OR t.completed = :completed)
+            AND (t.priorityRank < :priorityRank OR (t.priorityRank = :priorityRank AND t.id < :id))
+            ORDER BY t.priorityRank DESC, t.id DESC""")
+    List<Task> findPageByPriorityBefore(@Param("userId") Long userId,
+            @Param("completed") Boolean completed, @Param("priorityRank") Integer priorityRank,
+            @Param("id") Long id, Limit limit);
+
+    @Query(value = """
+            SELECT t.id AS id, ts_rank_cd(t.search_vector, tsq) AS rank
+            FROM tb_tasks t, websearch_to_tsquery('english', :q) tsq
+            WHERE t.user_id = :userId AND t.search_vector @@ tsq
+            ORDER BY rank DESC, t.id DESC
+            LIMIT :limit""", nativeQuery = true)
+    List<TaskSearchHit> search(@Param("userId") Long userId, @Param("q") String q,
+            @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT hits.id AS id, hits.rank AS rank FROM (
+                SELECT t.id, ts_rank_cd(t.search_vector, tsq) AS rank
+                FROM tb_tasks t, websearch_to_tsquery('english', :q) tsq
+                WHERE t.user_id = :userId AND t.search_vector @@ tsq
+            ) hits
+            WHERE hits.rank < :afterRank OR (hits.rank = :afterRank AND hits.id < :afterId)
+            ORDER BY hits.rank DESC, hits.id DESC
+            LIMIT :limit""", nativeQuery = true)
+    List<TaskSearchHit> searchAfter(@Param("userId") Long userId, @Param("q") String q,
+            @Param("afterRank") float afterRank, @Param("afterId") Long afterId,
+            @Param("limit") int limit);
+
+    @NativeQuery(value = """
+            SELECT board.board_column, board.column_count, board.id, board.user_id, board.title,
+                board.priority, board.due_date, board.completed, board.description,
+                board.created_at, board.updated_at,
+                (SELECT ARRAY_AGG(g.id ORDER BY g.id) FROM tb_task_tags tt
+                 JOIN tb_tags g ON g.id = tt.tag_id WHERE tt.task_id = board.id) AS tag_ids,
+                (SELECT ARRAY_AGG(g.name ORDER BY g.id) FROM tb_task_tags tt
+                 JOIN tb_tags g ON g.id = tt.tag_id WHERE tt.task_id = board.id) AS tag_names
+            FROM (
+                SELECT 0 AS column_rank, CASE WHEN t.completed THEN 'DONE'
+                    ELSE COALESCE(CAST(t.priority AS VARCHAR(20)), 'NONE') END AS board_column,
+                    COUNT(*) AS column_count, CAST(NULL AS BIGINT) AS id,
+                    CAST(NULL AS BIGINT) AS user_id, CAST(NULL AS VARCHAR(255)) AS title,
+                    CAST(NULL AS VARCHAR(20)) AS priority,
+                    CAST(NULL AS TIMESTAMP WITH TIME ZONE) AS due_date,
+                    CAST(NULL AS TIMESTAMP WITH TIME ZONE) AS sort_due_date,
+                    CAST(NULL AS BOOLEAN) AS completed, CAST(NULL AS TEXT) AS description,
+                    CAST(NULL AS TIMESTAMP) AS created_at, CAST(NULL AS TIMESTAMP) AS updated_at
+                FROM tb_tasks t WHERE t.user_id = :userId
+                GROUP BY CASE WHEN t.completed THEN 'DONE'
+                    ELSE COALESCE(CAST(t.priority AS VARCHAR(20)), 'NONE') END
+                UNION ALL
+                (SELECT 1, 'CRITICAL', CAST(NULL AS BIGINT),
+                    t.id, t.user_id, t.title, CAST(t.priority AS VARCHAR(20)),
+                    t.due_date, t.due_date, t.completed, t.description, t.created_at, t.updated_at
+                 FROM tb_tasks t
+                 WHERE t.user_id = :userId AND t.completed = FALSE AND t.priority = 'CRITICAL'
+                 ORDER BY t.due_date ASC NULLS LAST, t.created_at DESC, t.id DESC LIMIT :limit)
+                UNION ALL
+                (SELECT 2, 'HIGH', CAST(NULL AS BIGINT),
+                    t.id, t.user_id, t.title, CAST(t.priority AS VARCHAR(20)),
+                    t.due_date, t.due_date, t.completed, t.description, t.created_at, t.updated_at
+                 FROM tb_tasks t
+                 WHERE t.user_id = :userId AND t.completed = FALSE AND t.priority = 'HIGH'
+                 ORDER BY t.due_date ASC NULLS LAST, t.created_at DESC, t.id DESC LIMIT :limit)
+                UNION ALL
+                (SELECT 3, 'MEDIUM', CAST(NULL AS BIGINT),
+                    t.id, t.user_id, t.title, CAST(t.priority AS VARCHAR(20)),
+                    t.due_date, t.due_date, t.completed, t.description, t.created_at, t.updated_at
+                 FROM tb_tasks t
+                 WHERE t.user_id = :userId AND t.completed = FALSE AND t.priority = 'MEDIUM'
+                 ORDER BY t.due_date ASC NULLS LAST, t.created_at DESC, t.id DESC LIMIT :limit)
+                UNION ALL
+                (SELECT 4, 'LOW', CAST(NULL AS BIGINT),
+                    t.id, t.user_id, t.title, CAST(t.priority AS VARCHAR(20)),
+                    t.due_date, t.due_date, t.completed, t.description, t.created_at, t.updated_at
+                 FROM tb_tasks t
+                 WHERE t.user_id = :userId AND t.completed = FALSE AND t.priority = 'LOW'
+                 ORDER BY t.due_date ASC NULLS LAST, t.created_at DESC, t.id DESC LIMIT :limit)
+                UNION ALL
+                (SELECT 5, 'NONE', CAST(NULL AS BIGINT),
+                    t.id, t.user_id, t.title, CAST(t.priority AS VARCHAR(20)),
+                    t.due_date, t.due_date, t.completed, t.description, t.created_at, t.updated_at
+                 FROM tb_tasks t
+                 WHERE t.user_id = :userId AND t.completed = FALSE AND t.priority IS NULL
+                 ORDER BY t.due_date ASC NULLS LAST, t.created_at DESC, t.id DESC LIMIT :limit)
+                UNION ALL
+                (SELECT 6, 'DONE', CAST(NULL AS BIGINT),
+                    t.id, t.user_id, t.title, CAST(t.priority AS VARCHAR(20)),
+                    t.due_date, CAST(NULL AS TIMESTAMP WITH TIME ZONE), t.completed, t.description,
+                    t.created_at, t.updated_at
+                 FROM tb_tasks t
+                 WHERE t.user_id = :userId AND t.completed = TRUE
+                 ORDER BY t.created_at DESC, t.id DESC LIMIT :limit)
+            ) board
+            ORDER BY board.column_rank, board.board_column, board.sort_due_date ASC NULLS LAST,
+                board.created_at DESC, board.id DESC""", sqlResultSetMapping = "TaskBoardRow")
+    List<TaskBoardRow> findBoard(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Query("""
+            SELECT t FROM Task t WHERE t.user.id = :userId AND t.completed = false
+            AND (t.priority = :priority OR (:priority IS NULL AND t.priority IS NULL))
+            ORDER BY t.dueDate ASC NULLS LAST, t.createdAt DESC, t.id DESC""")
+    List<Task> findBoardColumn(@Param("userId") Long userId,
+            @Param("priority") Priority priority, Limit limit);
+
+    @Query("""
+            SELECT t FROM Task t WHERE t.user.id = :userId AND t.completed = false
+            AND (t.priority = :priority OR (:priority IS NULL AND t.priority IS NULL))
+            AND (t.dueDate > :dueDate OR t.dueDate IS NULL OR (t.dueDate = :dueDate
+                AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id))))
+            ORDER BY t.dueDate ASC NULLS LAST, t.createdAt DESC, t.id DESC""")
+    List<Task> findBoardColumnAfter(@Param("userId") Long userId,
+            @Param("priority") Priority priority, @Param("dueDate") OffsetDateTime dueDate,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("""
+            SELECT t FROM Task t WHERE t.user.id = :userId AND t.completed = false
+            AND (t.priority = :priority OR (:priority IS NULL AND t.priority IS NULL))
+            AND t.dueDate IS NULL
+            AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id))
+            ORDER BY t.createdAt DESC, t.id DESC""")
+    List<Task> findBoardColumnWithoutDueDateAfter(@Param("userId") Long userId,
+            @Param("priority") Priority priority, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Limit limit);
+
+    @Query("""
+            SELECT new br.com.riannegreiros.AiTaskApp.tasks.dto.TaskDueRow(
+                t.id, t.user.id, t.dueDate)
+            FROM Task t WHERE t.completed = false
+            AND t.dueDate >= :from AND t.dueDate < :to
+            ORDER BY t.dueDate ASC, t.id ASC""")
+    List<TaskDueRow> findPendingDue(@Param("from") OffsetDateTime from,
+            @Param("to") OffsetDateTime to, Limit limit);
+
+    @Query("""
+            SELECT new br.com.riannegreiros.AiTaskApp.tasks.dto.TaskDueRow(
+                t.id, t.user.id, t.dueDate)
+            FROM Task t WHERE t.completed = false
+            AND t.dueDate >= :from AND t.dueDate < :to
+            AND (t.dueDate > :dueDate OR (t.dueDate = :dueDate AND t.id > :id))
+            ORDER BY t.dueDate ASC, t.id ASC""")
+    List<TaskDueRow> findPendingDueAfter(@Param("from") OffsetDateTime from,
+            @Param("to") OffsetDateTime to, @Param("dueDate") OffsetDateTime dueDate,
+            @Param("id") Long id, Limit limit);
 }
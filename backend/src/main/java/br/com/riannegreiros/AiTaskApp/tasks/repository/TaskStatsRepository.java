@@ -0,0 +1,28 @@
+package br.com.riannegreiros.AiTaskApp.tasks.repository;
+
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import br.com.riannegreiros.AiTaskApp.tasks.model.TaskStats;
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface TaskStatsRepository extends JpaRepository<TaskStats, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TaskStats s WHERE s.userId = :userId")
+    Optional<TaskStats> findForUpdate(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("""
+            UPDATE TaskStats s SET s.total = s.total + :total,
+            s.completed = s.completed + :completed,
+            s.criticalPending = s.criticalPending + :criticalPending,
+            s.updatedAt = CURRENT_TIMESTAMP
+            WHERE s.userId = :userId""")
+    int increment(@Param("userId") Long userId, @Param("total") long total,
+            @Param("completed") long completed, @Param("criticalPending") long criticalPending);
+}
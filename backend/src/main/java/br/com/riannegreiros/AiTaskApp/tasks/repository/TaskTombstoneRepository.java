@@ -0,0 +1,27 @@
+package br.com.riannegreiros.AiTaskApp.tasks.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import br.com.riannegreiros.AiTaskApp.tasks.model.TaskTombstone;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+    @Query("""
+            SELECT t FROM TaskTombstone t WHERE t.userId = :userId
+            AND (t.changeSeq > :changeSeq OR (t.changeSeq = :changeSeq AND t.taskId > :id))
+            ORDER BY t.changeSeq, t.taskId""")
+    List<TaskTombstone> findChangesAfter(@Param("userId") Long userId,
+            @Param("changeSeq") long changeSeq, @Param("id") long id, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TaskTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,41 @@
+package br.com.riannegreiros.AiTaskApp.tasks.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import br.com.riannegreiros.AiTaskApp.infra.exception.InvalidCursorException;
+import br.com.riannegreiros.AiTaskApp.tasks.model.BoardColumn;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Task;
+
+record TaskBoardCursor(BoardColumn column, OffsetDateTime dueDate, LocalDateTime createdAt,
+        Long id) {
+
+    static TaskBoardCursor of(BoardColumn column, Task task) {
+        return new TaskBoardCursor(column, column.completed() ? null : task.getDueDate(),
+                task.getCreatedAt(), task.getId());
+    }
+
+    static TaskBoardCursor decode(String cursor, BoardColumn column) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != 4 || !column.name().equals(parts[0])) {
+                throw new InvalidCursorException("Cursor does not match the requested column");
+            }
+            return new TaskBoardCursor(column,
+                    parts[1].isEmpty() ? null : OffsetDateTime.parse(parts[1]),
+                    LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String raw = column.name() + "|" + (dueDate != null ? dueDate.toString() : "") + "|"
+                + createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.riannegreiros.AiTaskApp.tasks.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import br.com.riannegreiros.AiTaskApp.infra.exception.InvalidCursorException;
+
+record TaskChangeCursor(long changeSeq, long id, Instant issuedAt) {
+    private static final String PREFIX = "CHANGES";
+
+    static TaskChangeCursor start() {
+        return new TaskChangeCursor(-1L, 0L, Instant.now());
+    }
+
+    static TaskChangeCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != 4 || !PREFIX.equals(parts[0])) {
+                throw new InvalidCursorException("Cursor does not match a change feed");
+            }
+            return new TaskChangeCursor(Long.parseLong(parts[1]), Long.parseLong(parts[2]),
+                    Instant.ofEpochSecond(Long.parseLong(parts[3])));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String raw = PREFIX + "|" + changeSeq + "|" + id + "|" + issuedAt.getEpochSecond();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.riannegreiros.AiTaskApp.tasks.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import br.com.riannegreiros.AiTaskApp.infra.exception.InvalidCursorException;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Priority;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Task;
+import br.com.riannegreiros.AiTaskApp.tasks.model.TaskSort;
+
+record TaskCursor(TaskSort sort, String value, Long id) {
+
+    static TaskCursor of(TaskSort sort, Task task) {
+        String value = switch (sort) {
+            case CREATED_AT -> task.getCreatedAt().toString();
+            case DUE_DATE -> task.getDueDate() != null ? task.getDueDate().toString() : "";
+            case PRIORITY -> String.valueOf(Priority.rankOf(task.getPriority()));
+        };
+        return new TaskCursor(sort, value, task.getId());
+    }
+
+    static TaskCursor decode(String cursor, TaskSort sort) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != 3 || !sort.name().equals(parts[0])) {
+                throw new InvalidCursorException("Cursor does not match the requested sort");
+            }
+            TaskCursor taskCursor = new TaskCursor(sort, parts[1], Long.parseLong(parts[2]));
+            taskCursor.validate();
+            return taskCursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String raw = sort.name() + "|" + value + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    LocalDateTime createdAt() {
+        return LocalDateTime.parse(value);
+    }
+
+    OffsetDateTime dueDate() {
+        return value.isEmpty() ? null : OffsetDateTime.parse(value);
+    }
+
+    int priorityRank() {
+        return Integer.parseInt(value);
+    }
+
+    private void validate() {
+        switch (sort) {
+            case CREATED_AT -> createdAt();
+            case DUE_DATE -> dueDate();
+            case PRIORITY -> priorityRank();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.riannegreiros.AiTaskApp.tasks.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import br.com.riannegreiros.AiTaskApp.infra.exception.InvalidCursorException;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskSearchHit;
+
+record TaskSearchCursor(float rank, Long id) {
+    private static final String PREFIX = "RELEVANCE";
+
+    static TaskSearchCursor of(TaskSearchHit hit) {
+        return new TaskSearchCursor(hit.getRank(), hit.getId());
+    }
+
+    static TaskSearchCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != 3 || !PREFIX.equals(parts[0])) {
+                throw new InvalidCursorException("Cursor does not match a search");
+            }
+            return new TaskSearchCursor(Float.parseFloat(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String raw = PREFIX + "|" + rank + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
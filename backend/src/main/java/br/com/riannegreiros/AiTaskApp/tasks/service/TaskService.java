@@ -1,41 +1,95 @@
 package br.com.riannegreiros.AiTaskApp.tasks.service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import br.com.riannegreiros.AiTaskApp.auth.model.User;
-import br.com.riannegreiros.AiTaskApp.auth.repository.UserRepository;
+import br.com.riannegreiros.AiTaskApp.auth.service.PrincipalResolver;
+import br.com.riannegreiros.AiTaskApp.events.dto.UserEvent;
+import br.com.riannegreiros.AiTaskApp.events.model.UserEventType;
 import br.com.riannegreiros.AiTaskApp.infra.exception.TagNotFoundException;
 import br.com.riannegreiros.AiTaskApp.infra.exception.TaskNotFoundException;
-import br.com.riannegreiros.AiTaskApp.infra.exception.UserNotFoundException;
+import br.com.riannegreiros.AiTaskApp.infra.version.CollectionVersionService;
 import br.com.riannegreiros.AiTaskApp.tags.model.Tag;
 import br.com.riannegreiros.AiTaskApp.tags.repository.TagRepository;
 import br.com.riannegreiros.AiTaskApp.tasks.dto.TagSummary;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBatchAction;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBatchOperation;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBatchRequest;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBatchResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBatchResult;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBoardColumnResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBoardResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBoardRow;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskChangesResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskPageResponse;
 import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskRequest;
 import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskSearchHit;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskTagRow;
 import br.com.riannegreiros.AiTaskApp.tasks.dto.UpdateTaskRequest;
+import br.com.riannegreiros.AiTaskApp.tasks.model.BoardColumn;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Priority;
 import br.com.riannegreiros.AiTaskApp.tasks.model.Task;
+import br.com.riannegreiros.AiTaskApp.tasks.model.TaskSort;
+import br.com.riannegreiros.AiTaskApp.tasks.model.TaskStatus;
+import br.com.riannegreiros.AiTaskApp.tasks.model.TaskTombstone;
 import br.com.riannegreiros.AiTaskApp.tasks.repository.TaskRepository;
+import br.com.riannegreiros.AiTaskApp.tasks.repository.TaskTombstoneRepository;
 
 @Service
 public class TaskService {
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final TaskRepository taskRepository;
-    private final UserRepository userRepository;
     private final TagRepository tagRepository;
+    private final PrincipalResolver principalResolver;
+    private final TaskStatsService taskStatsService;
+    private final CollectionVersionService collectionVersionService;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final Duration tombstoneRetention;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TaskService(TaskRepository taskRepository, UserRepository userRepository,
-            TagRepository tagRepository) {
+    public TaskService(TaskRepository taskRepository, TagRepository tagRepository,
+            PrincipalResolver principalResolver, TaskStatsService taskStatsService,
+            CollectionVersionService collectionVersionService,
+            TaskTombstoneRepository tombstoneRepository,
+            @Value("${app.tasks.sync.tombstone-retention}") long tombstoneRetentionSeconds,
+            ApplicationEventPublisher eventPublisher) {
         this.taskRepository = taskRepository;
-        this.userRepository = userRepository;
         this.tagRepository = tagRepository;
+        this.principalResolver = principalResolver;
+        this.taskStatsService = taskStatsService;
+        this.collectionVersionService = collectionVersionService;
+        this.tombstoneRepository = tombstoneRepository;
+        this.tombstoneRetention = Duration.ofSeconds(tombstoneRetentionSeconds);
+        this.eventPublisher = eventPublisher;
     }
 
+    @Transactional
     public TaskResponse saveTask(TaskRequest request, JwtAuthenticationToken token) {
-        User user = getUser(token);
+        User user = principalResolver.userReference(token);
+        long changeSeq = collectionVersionService.nextTasksVersion(user.getId());
 
         Task task = new Task();
+        task.setChangeSeq(changeSeq);
         task.setTitle(request.title());
         task.setPriority(request.priority());
         task.setDueDate(request.dueDate());
@@ -43,80 +97,476 @@ public class TaskService {
         task.setUser(user);
 
         if (request.tagIds() != null && !request.tagIds().isEmpty()) {
-            task.setTags(getTags(request.tagIds()));
+            task.setTags(getTags(request.tagIds(), principalResolver.userId(token)));
         }
 
         taskRepository.save(task);
-        return toResponse(task);
+        TaskStatsDelta delta = new TaskStatsDelta();
+        delta.add(task);
+        taskStatsService.apply(user.getId(), delta);
+        return publish(user.getId(), UserEventType.TASK_CREATED, task);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPageResponse listUserTasks(TaskSort sort, TaskStatus status, String cursor, int size,
+            JwtAuthenticationToken token) {
+        Long userId = principalResolver.userId(token);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        TaskCursor after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor, sort);
+
+        List<Task> tasks =
+                findPage(userId, sort, status.completed(), after, Limit.of(pageSize + 1));
+
+        String nextCursor = null;
+        if (tasks.size() > pageSize) {
+            tasks = tasks.subList(0, pageSize);
+            nextCursor = TaskCursor.of(sort, tasks.getLast()).encode();
+        }
+        return new TaskPageResponse(toResponses(tasks), nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPageResponse searchUserTasks(String query, String cursor, int size,
+            JwtAuthenticationToken token) {
+        if (query == null || query.isBlank()) {
+            return new TaskPageResponse(List.of(), null);
+        }
+        Long userId = principalResolver.userId(token);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+
+        List<TaskSearchHit> hits;
+        if (cursor == null || cursor.isBlank()) {
+            hits = taskRepository.search(userId, query, pageSize + 1);
+        } else {
+            TaskSearchCursor after = TaskSearchCursor.decode(cursor);
+            hits = taskRepository.searchAfter(userId, query, after.rank(), after.id(),
+                    pageSize + 1);
+        }
+
+        String nextCursor = null;
+        if (hits.size() > pageSize) {
+            hits = hits.subList(0, pageSize);
+            nextCursor = TaskSearchCursor.of(hits.getLast()).encode();
+        }
+
+        Map<Long, Task> tasks = taskRepository
+                .findAllByIdInAndUserId(hits.stream().map(TaskSearchHit::getId).toList(), userId)
+                .stream().collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<Task> ranked = hits.stream().map(hit -> tasks.get(hit.getId()))
+                .filter(Objects::nonNull).toList();
+        return new TaskPageResponse(toResponses(ranked), nextCursor);
     }
 
-    public List<TaskResponse> listAllUserTasks(JwtAuthenticationToken token) {
-        User user = getUser(token);
-        return taskRepository.findAllByUserId(user.getId()).stream().map(this::toResponse).toList();
+    @Transactional(readOnly = true)
+    public TaskBoardResponse getBoard(int size, JwtAuthenticationToken token) {
+        Long userId = principalResolver.userId(token);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+
+        Map<BoardColumn, Long> counts = new EnumMap<>(BoardColumn.class);
+        Map<BoardColumn, List<TaskBoardRow>> rowsByColumn = new EnumMap<>(BoardColumn.class);
+        for (TaskBoardRow row : taskRepository.findBoard(userId, pageSize + 1)) {
+            BoardColumn column = BoardColumn.valueOf(row.boardColumn());
+            if (row.id() == null) {
+                counts.put(column, row.columnCount());
+            } else {
+                rowsByColumn.computeIfAbsent(column, key -> new ArrayList<>()).add(row);
+            }
+        }
+
+        List<TaskBoardColumnResponse> columns = new ArrayList<>();
+        for (BoardColumn column : BoardColumn.values()) {
+            List<TaskBoardRow> rows = rowsByColumn.getOrDefault(column, List.of());
+            String nextCursor = null;
+            if (rows.size() > pageSize) {
+                rows = rows.subList(0, pageSize);
+                TaskBoardRow last = rows.getLast();
+                nextCursor = new TaskBoardCursor(column,
+                        column.completed() ? null : last.dueDate(), last.createdAt(), last.id())
+                        .encode();
+            }
+            columns.add(new TaskBoardColumnResponse(column, counts.getOrDefault(column, 0L),
+                    rows.stream().map(TaskService::toResponse).toList(), nextCursor));
+        }
+        return new TaskBoardResponse(columns);
     }
 
+    @Transactional(readOnly = true)
+    public TaskPageResponse listBoardColumn(BoardColumn column, String cursor, int size,
+            JwtAuthenticationToken token) {
+        Long userId = principalResolver.userId(token);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        TaskBoardCursor after =
+                cursor == null || cursor.isBlank() ? null : TaskBoardCursor.decode(cursor, column);
+
+        List<Task> tasks = findBoardColumnPage(userId, column, after, Limit.of(pageSize + 1));
+
+        String nextCursor = null;
+        if (tasks.size() > pageSize) {
+            tasks = tasks.subList(0, pageSize);
+            nextCursor = TaskBoardCursor.of(column, tasks.getLast()).encode();
+        }
+        return new TaskPageResponse(toResponses(tasks), nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskChangesResponse listChanges(String since, int size, JwtAuthenticationToken token) {
+        Long userId = principalResolver.userId(token);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        TaskChangeCursor after = since == null || since.isBlank() ? TaskChangeCursor.start()
+                : TaskChangeCursor.decode(since);
+        Instant now = Instant.now();
+        if (after.issuedAt().isBefore(now.minus(tombstoneRetention))) {
+            return TaskChangesResponse.reset();
+        }
+
+        List<Task> changed = taskRepository.findChangesAfter(userId, after.changeSeq(), after.id(),
+                Limit.of(pageSize + 1));
+        List<TaskTombstone> tombstones = tombstoneRepository.findChangesAfter(userId,
+                after.changeSeq(), after.id(), Limit.of(pageSize + 1));
+
+        List<Task> pageTasks = new ArrayList<>();
+        List<String> deleted = new ArrayList<>();
+        long lastSeq = after.changeSeq();
+        long lastId = after.id();
+        int t = 0;
+        int d = 0;
+        while (pageTasks.size() + deleted.size() < pageSize
+                && (t < changed.size() || d < tombstones.size())) {
+            boolean takeTask = d == tombstones.size() || t < changed.size()
+                    && compareChange(changed.get(t), tombstones.get(d)) < 0;
+            if (takeTask) {
+                Task task = changed.get(t++);
+                pageTasks.add(task);
+                lastSeq = task.getChangeSeq();
+                lastId = task.getId();
+            } else {
+                TaskTombstone tombstone = tombstones.get(d++);
+                deleted.add(tombstone.getTaskId().toString());
+                lastSeq = tombstone.getChangeSeq();
+                lastId = tombstone.getTaskId();
+            }
+        }
+        boolean hasMore = t < changed.size() || d < tombstones.size();
+        String cursor =
+                new TaskChangeCursor(lastSeq, lastId, hasMore ? after.issuedAt() : now).encode();
+        return new TaskChangesResponse(toResponses(pageTasks), deleted, cursor, hasMore, false);
+    }
+
+    @Transactional
+    public void markTagRemoved(Long tagId, Long userId) {
+        long changeSeq = collectionVersionService.nextTasksVersion(userId);
+        taskRepository.markChangedByTag(tagId, changeSeq);
+    }
+
+    public int compactTombstones() {
+        return tombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(tombstoneRetention));
+    }
+
+    @Transactional(readOnly = true)
     public TaskResponse getTask(String taskId, JwtAuthenticationToken token) {
-        User user = getUser(token);
-        Task task = taskRepository.findByIdAndUserId(Long.parseLong(taskId), user.getId())
+        Task task = taskRepository
+                .findByIdAndUserId(Long.parseLong(taskId), principalResolver.userId(token))
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + taskId));
         return toResponse(task);
     }
 
+    @Transactional
     public TaskResponse updateTask(String id, UpdateTaskRequest request,
             JwtAuthenticationToken token) {
-        User user = getUser(token);
-        Task task = taskRepository.findByIdAndUserId(Long.parseLong(id), user.getId())
+        Long userId = principalResolver.userId(token);
+        Task task = taskRepository.findByIdAndUserId(Long.parseLong(id), userId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
 
+        TaskStatsDelta delta = new TaskStatsDelta();
+        delta.remove(task);
+        task.setChangeSeq(collectionVersionService.nextTasksVersion(userId));
         task.setTitle(request.title());
         task.setDescription(request.description());
         task.setDueDate(request.dueDate());
         task.setPriority(request.priority());
 
         if (request.tagIds() != null) {
-            task.setTags(request.tagIds().isEmpty() ? new HashSet<>() : getTags(request.tagIds()));
+            task.setTags(request.tagIds().isEmpty() ? new HashSet<>()
+                    : getTags(request.tagIds(), userId));
         }
 
         taskRepository.save(task);
-        return toResponse(task);
+        delta.add(task);
+        taskStatsService.apply(userId, delta);
+        return publish(userId, UserEventType.TASK_UPDATED, task);
     }
 
+    @Transactional
     public void deleteTask(String id, JwtAuthenticationToken token) {
-        User user = getUser(token);
-        taskRepository.findByIdAndUserId(Long.parseLong(id), user.getId())
+        Long userId = principalResolver.userId(token);
+        Task task = taskRepository.findByIdAndUserId(Long.parseLong(id), userId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
+        TaskStatsDelta delta = new TaskStatsDelta();
+        delta.remove(task);
+        long changeSeq = collectionVersionService.nextTasksVersion(userId);
+        taskRepository.delete(task);
+        tombstoneRepository.save(new TaskTombstone(task.getId(), userId, changeSeq));
+        taskStatsService.apply(userId, delta);
+        eventPublisher.publishEvent(UserEvent.taskDeleted(userId, task.getId(), changeSeq));
     }
 
+    @Transactional
     public TaskResponse toggleTaskCompleted(String id, JwtAuthenticationToken token) {
-        User user = getUser(token);
-        Task task = taskRepository.findByIdAndUserId(Long.parseLong(id), user.getId())
+        Long userId = principalResolver.userId(token);
+        Task task = taskRepository.findByIdAndUserId(Long.parseLong(id), userId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
 
+        TaskStatsDelta delta = new TaskStatsDelta();
+        delta.remove(task);
         task.toggleTaskCompleted();
+        task.setChangeSeq(collectionVersionService.nextTasksVersion(userId));
         taskRepository.save(task);
-        return toResponse(task);
+        delta.add(task);
+        taskStatsService.apply(userId, delta);
+        return publish(userId, UserEventType.TASK_TOGGLED, task);
     }
 
-    private User getUser(JwtAuthenticationToken token) {
-        return userRepository.findById(Long.parseLong(token.getName())).orElseThrow(
-                () -> new UserNotFoundException("User not found with ID: " + token.getName()));
+    @Transactional
+    public TaskBatchResponse applyBatch(TaskBatchRequest request, JwtAuthenticationToken token) {
+        Long userId = principalResolver.userId(token);
+        List<TaskBatchOperation> operations = request.operations();
+
+        Set<Long> taskIds = operations.stream().filter(op -> op.action() != TaskBatchAction.CREATE)
+                .map(op -> parseId(op.id())).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, Task> tasks = taskIds.isEmpty() ? new HashMap<>()
+                : taskRepository.findAllByIdInAndUserId(taskIds, userId).stream()
+                        .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        Set<Long> tagIds = operations.stream().filter(op -> op.task() != null
+                && op.task().tagIds() != null)
+                .flatMap(op -> op.task().tagIds().stream()).map(TaskService::parseId)
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+        List<Tag> ownedTags =
+                tagIds.isEmpty() ? List.of() : tagRepository.findAllByIdInAndUserId(tagIds, userId);
+
+        User user = principalResolver.userReference(token);
+        long changeSeq = collectionVersionService.nextTasksVersion(userId);
+        TaskStatsDelta delta = new TaskStatsDelta();
+        Task[] applied = new Task[operations.size()];
+        String[] errors = new String[operations.size()];
+        for (int i = 0; i < operations.size(); i++) {
+            try {
+                applied[i] = applyOperation(operations.get(i), user, tasks, ownedTags, delta,
+                        changeSeq);
+            } catch (TaskNotFoundException | TagNotFoundException | IllegalArgumentException e) {
+                errors[i] = e.getMessage();
+            }
+        }
+        taskRepository.flush();
+        taskStatsService.apply(userId, delta);
+
+        List<TaskBatchResult> results = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            TaskBatchOperation operation = operations.get(i);
+            if (errors[i] != null) {
+                results.add(TaskBatchResult.failure(i, operation, errors[i]));
+            } else if (operation.action() == TaskBatchAction.DELETE) {
+                results.add(TaskBatchResult.success(i, operation.action(), operation.id(), null));
+                eventPublisher.publishEvent(
+                        UserEvent.taskDeleted(userId, applied[i].getId(), changeSeq));
+            } else if (operation.action() != TaskBatchAction.CREATE
+                    && !tasks.containsKey(applied[i].getId())) {
+                results.add(TaskBatchResult.success(i, operation.action(), operation.id(), null));
+            } else {
+                results.add(TaskBatchResult.success(i, operation.action(),
+                        applied[i].getId().toString(),
+                        publish(userId, eventType(operation.action()), applied[i])));
+            }
+        }
+        return new TaskBatchResponse(results);
     }
 
-    private Set<Tag> getTags(List<String> tagIds) {
-        Set<Tag> tags = new HashSet<>();
+    private Task applyOperation(TaskBatchOperation operation, User user, Map<Long, Task> tasks,
+            List<Tag> ownedTags, TaskStatsDelta delta, long changeSeq) {
+        TaskBatchAction action = operation.action();
+        if (action == TaskBatchAction.DELETE) {
+            Task task = batchTask(tasks, operation.id());
+            delta.remove(task);
+            taskRepository.delete(task);
+            tombstoneRepository.save(new TaskTombstone(task.getId(), user.getId(), changeSeq));
+            tasks.remove(task.getId());
+            return task;
+        }
+        if (action == TaskBatchAction.TOGGLE) {
+            Task task = batchTask(tasks, operation.id());
+            delta.remove(task);
+            task.toggleTaskCompleted();
+            task.setChangeSeq(changeSeq);
+            delta.add(task);
+            return task;
+        }
+
+        TaskRequest request = operation.task();
+        if (request == null) {
+            throw new IllegalArgumentException("Task payload is required for " + action);
+        }
+        Task task = action == TaskBatchAction.CREATE ? new Task() : batchTask(tasks, operation.id());
+        Set<Tag> tags = request.tagIds() == null ? null
+                : selectTags(parseTagIds(request.tagIds()), ownedTags);
+        if (action != TaskBatchAction.CREATE) {
+            delta.remove(task);
+        }
+        task.setTitle(request.title());
+        task.setPriority(request.priority());
+        task.setDueDate(request.dueDate());
+        task.setDescription(request.description());
+        task.setChangeSeq(changeSeq);
+        if (tags != null) {
+            task.setTags(tags);
+        }
+        if (action == TaskBatchAction.CREATE) {
+            task.setUser(user);
+            taskRepository.save(task);
+        }
+        delta.add(task);
+        return task;
+    }
+
+    private TaskResponse publish(Long userId, UserEventType type, Task task) {
+        TaskResponse response = toResponse(task);
+        eventPublisher.publishEvent(UserEvent.taskChanged(userId, type, response,
+                task.getChangeSeq()));
+        return response;
+    }
+
+    private static UserEventType eventType(TaskBatchAction action) {
+        return switch (action) {
+            case CREATE -> UserEventType.TASK_CREATED;
+            case UPDATE -> UserEventType.TASK_UPDATED;
+            case TOGGLE -> UserEventType.TASK_TOGGLED;
+            case DELETE -> UserEventType.TASK_DELETED;
+        };
+    }
+
+    private static int compareChange(Task task, TaskTombstone tombstone) {
+        int bySeq = Long.compare(task.getChangeSeq(), tombstone.getChangeSeq());
+        return bySeq != 0 ? bySeq : Long.compare(task.getId(), tombstone.getTaskId());
+    }
+
+    private Task batchTask(Map<Long, Task> tasks, String id) {
+        Long taskId = parseId(id);
+        Task task = taskId == null ? null : tasks.get(taskId);
+        if (task == null) {
+            throw new TaskNotFoundException("Task not found with ID: " + id);
+        }
+        return task;
+    }
+
+    private static Long parseId(String id) {
+        try {
+            return id == null ? null : Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private List<Task> findPage(Long userId, TaskSort sort, Boolean completed, TaskCursor after,
+            Limit limit) {
+        if (after == null) {
+            return switch (sort) {
+                case CREATED_AT -> taskRepository.findPageByCreatedAt(userId, completed, limit);
+                case DUE_DATE -> taskRepository.findPageByDueDate(userId, completed, limit);
+                case PRIORITY -> taskRepository.findPageByPriority(userId, completed, limit);
+            };
+        }
+        return switch (sort) {
+            case CREATED_AT -> taskRepository.findPageByCreatedAtBefore(userId, completed,
+                    after.createdAt(), after.id(), limit);
+            case DUE_DATE -> after.dueDate() == null
+                    ? taskRepository.findPageWithoutDueDateAfter(userId, completed, after.id(), limit)
+                    : taskRepository.findPageByDueDateAfter(userId, completed, after.dueDate(),
+                            after.id(), limit);
+            case PRIORITY -> taskRepository.findPageByPriorityBefore(userId, completed,
+                    after.priorityRank(), after.id(), limit);
+        };
+    }
+
+    private List<Task> findBoardColumnPage(Long userId, BoardColumn column, TaskBoardCursor after,
+            Limit limit) {
+        if (column.completed()) {
+            return after == null ? taskRepository.findPageByCreatedAt(userId, true, limit)
+                    : taskRepository.findPageByCreatedAtBefore(userId, true, after.createdAt(),
+                            after.id(), limit);
+        }
+        if (after == null) {
+            return taskRepository.findBoardColumn(userId, column.priority(), limit);
+        }
+        return after.dueDate() == null
+                ? taskRepository.findBoardColumnWithoutDueDateAfter(userId, column.priority(),
+                        after.createdAt(), after.id(), limit)
+                : taskRepository.findBoardColumnAfter(userId, column.priority(), after.dueDate(),
+                        after.createdAt(), after.id(), limit);
+    }
+
+    private Set<Tag> getTags(List<String> tagIds, Long userId) {
+        Set<Long> ids = parseTagIds(tagIds);
+        return selectTags(ids, tagRepository.findAllByIdInAndUserId(ids, userId));
+    }
+
+    private Set<Long> parseTagIds(List<String> tagIds) {
+        Set<Long> ids = new HashSet<>();
         for (String tagId : tagIds) {
-            Tag tag = tagRepository.findById(Long.parseLong(tagId)).orElseThrow(
-                    () -> new TagNotFoundException("Tag does not belong to user or do not exist"));
-            tags.add(tag);
+            Long id = parseId(tagId);
+            if (id == null) {
+                throw new TagNotFoundException("Invalid tag ID: " + tagId);
+            }
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private Set<Tag> selectTags(Set<Long> ids, Collection<Tag> ownedTags) {
+        Set<Tag> tags = ownedTags.stream().filter(tag -> ids.contains(tag.getId()))
+                .collect(Collectors.toCollection(HashSet::new));
+
+        if (tags.size() != ids.size()) {
+            Set<Long> found = tags.stream().map(Tag::getId).collect(Collectors.toSet());
+            String missing = ids.stream().filter(tagId -> !found.contains(tagId)).sorted()
+                    .map(String::valueOf).collect(Collectors.joining(", "));
+            throw new TagNotFoundException(
+                    "Tags do not belong to user or do not exist: " + missing);
         }
         return tags;
     }
 
-    private TaskResponse toResponse(Task task) {
+    private List<TaskResponse> toResponses(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<TagSummary>> tagsByTask =
+                taskRepository.findTagsByTaskIds(tasks.stream().map(Task::getId).toList()).stream()
+                        .collect(Collectors.groupingBy(TaskTagRow::taskId, Collectors.mapping(
+                                row -> new TagSummary(row.tagId(), row.name()), Collectors.toList())));
+
+        return tasks.stream()
+                .map(task -> toResponse(task, tagsByTask.getOrDefault(task.getId(), List.of())))
+                .toList();
+    }
+
+    TaskResponse toResponse(Task task) {
+        return toResponse(task, task.getTags().stream()
+                .map(tag -> new TagSummary(tag.getId(), tag.getName())).toList());
+    }
+
+    private static TaskResponse toResponse(TaskBoardRow row) {
+        List<TagSummary> tags = new ArrayList<>();
+        for (int i = 0; row.tagIds() != null && i < row.tagIds().length; i++) {
+            tags.add(new TagSummary(row.tagIds()[i], row.tagNames()[i]));
+        }
+        return new TaskResponse(row.id().toString(), row.userId().toString(), row.title(),
+                row.priority() == null ? null : Priority.valueOf(row.priority()), row.dueDate(),
+                row.completed(), row.description(), tags, row.createdAt(), row.updatedAt());
+    }
+
+    private TaskResponse toResponse(Task task, List<TagSummary> tags) {
         return new TaskResponse(task.getId().toString(), task.getUser().getId().toString(),
                 task.getTitle(), task.getPriority(), task.getDueDate(), task.isCompleted(),
-                task.getDescription(), task.getTags().stream()
-                        .map(tag -> new TagSummary(tag.getId(), tag.getName())).toList(),
-                task.getCreatedAt(), task.getUpdatedAt());
+                task.getDescription(), tags, task.getCreatedAt(), task.getUpdatedAt());
     }
 }
@@ -0,0 +1,58 @@
+package br.com.riannegreiros.AiTaskApp.tasks.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import br.com.riannegreiros.AiTaskApp.tags.model.Tag;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Priority;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Task;
+
+final class TaskStatsDelta {
+    private long total;
+    private long completed;
+    private long criticalPending;
+    private final Map<Long, Long> tags = new HashMap<>();
+
+    void add(Task task) {
+        apply(task, 1);
+    }
+
+    void remove(Task task) {
+        apply(task, -1);
+    }
+
+    long total() {
+        return total;
+    }
+
+    long completed() {
+        return completed;
+    }
+
+    long criticalPending() {
+        return criticalPending;
+    }
+
+    boolean countersChanged() {
+        return total != 0 || completed != 0 || criticalPending != 0;
+    }
+
+    Map<Long, List<Long>> tagIdsByDelta() {
+        return tags.entrySet().stream().filter(e -> e.getValue() != 0)
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+    }
+
+    private void apply(Task task, int sign) {
+        total += sign;
+        if (task.isCompleted()) {
+            completed += sign;
+        } else if (task.getPriority() == Priority.CRITICAL) {
+            criticalPending += sign;
+        }
+        for (Tag tag : task.getTags()) {
+            tags.merge(tag.getId(), (long) sign, Long::sum);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.riannegreiros.AiTaskApp.tasks.service;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import br.com.riannegreiros.AiTaskApp.auth.service.PrincipalResolver;
+import br.com.riannegreiros.AiTaskApp.tags.model.Tag;
+import br.com.riannegreiros.AiTaskApp.tags.repository.TagRepository;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskStatsResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskTagCount;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Priority;
+import br.com.riannegreiros.AiTaskApp.tasks.model.TagStats;
+import br.com.riannegreiros.AiTaskApp.tasks.model.TaskStats;
+import br.com.riannegreiros.AiTaskApp.tasks.repository.TagStatsRepository;
+import br.com.riannegreiros.AiTaskApp.tasks.repository.TaskRepository;
+import br.com.riannegreiros.AiTaskApp.tasks.repository.TaskStatsRepository;
+
+@Service
+public class TaskStatsService {
+    private final TaskStatsRepository taskStatsRepository;
+    private final TagStatsRepository tagStatsRepository;
+    private final TaskRepository taskRepository;
+    private final TagRepository tagRepository;
+    private final PrincipalResolver principalResolver;
+
+    public TaskStatsService(TaskStatsRepository taskStatsRepository,
+            TagStatsRepository tagStatsRepository, TaskRepository taskRepository,
+            TagRepository tagRepository, PrincipalResolver principalResolver) {
+        this.taskStatsRepository = taskStatsRepository;
+        this.tagStatsRepository = tagStatsRepository;
+        this.taskRepository = taskRepository;
+        this.tagRepository = tagRepository;
+        this.principalResolver = principalResolver;
+    }
+
+    @Transactional
+    public TaskStatsResponse getStats(JwtAuthenticationToken token) {
+        return getStats(principalResolver.userId(token));
+    }
+
+    @Transactional
+    public TaskStatsResponse getStats(Long userId) {
+        TaskStats stats = taskStatsRepository.findById(userId).orElseGet(() -> rebuild(userId));
+        long overdue = taskRepository.countByUserIdAndCompletedFalseAndDueDateBefore(userId,
+                OffsetDateTime.now());
+
+        return new TaskStatsResponse(stats.getTotal(), stats.getCompleted(), stats.getPending(),
+                overdue, stats.getCriticalPending(), tagStatsRepository.findUsageByUserId(userId));
+    }
+
+    public void initializeUser(Long userId) {
+        taskStatsRepository.save(new TaskStats(userId));
+    }
+
+    public void initializeTag(Tag tag) {
+        tagStatsRepository.save(new TagStats(tag.getId(), tag.getUser().getId(), 0));
+    }
+
+    @Transactional
+    void apply(Long userId, TaskStatsDelta delta) {
+        if (delta.countersChanged() && taskStatsRepository.increment(userId, delta.total(),
+                delta.completed(), delta.criticalPending()) == 0) {
+            rebuild(userId);
+            return;
+        }
+
+        Map<Long, List<Long>> tagIdsByDelta = delta.tagIdsByDelta();
+        int expected = 0;
+        int updated = 0;
+        for (Map.Entry<Long, List<Long>> entry : tagIdsByDelta.entrySet()) {
+            expected += entry.getValue().size();
+            updated += tagStatsRepository.increment(entry.getValue(), entry.getKey());
+        }
+        if (updated != expected) {
+            rebuild(userId);
+        }
+    }
+
+    @Transactional
+    public TaskStats rebuild(Long userId) {
+        TaskStats stats =
+                taskStatsRepository.findForUpdate(userId).orElseGet(() -> new TaskStats(userId));
+        stats.reset(taskRepository.countByUserId(userId),
+                taskRepository.countByUserIdAndCompletedTrue(userId),
+                taskRepository.countByUserIdAndCompletedFalseAndPriority(userId,
+                        Priority.CRITICAL));
+        stats = taskStatsRepository.save(stats);
+
+        Map<Long, Long> counts = taskRepository.countTasksByTag(userId).stream()
+                .collect(Collectors.toMap(TaskTagCount::tagId, TaskTagCount::taskCount));
+        tagStatsRepository.deleteAllByUserId(userId);
+        tagStatsRepository.saveAll(tagRepository.findAllByUserId(userId).stream()
+                .map(tag -> new TagStats(tag.getId(), userId, counts.getOrDefault(tag.getId(), 0L)))
+                .toList());
+        return stats;
+    }
+}
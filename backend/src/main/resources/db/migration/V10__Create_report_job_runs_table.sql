@@ -0,0 +1,13 @@
+CREATE TABLE tb_report_job_runs (
+    id BIGSERIAL PRIMARY KEY,
+    run_date DATE NOT NULL UNIQUE,
+    status VARCHAR(20) NOT NULL,
+    last_user_id BIGINT NOT NULL DEFAULT 0,
+    succeeded INT NOT NULL DEFAULT 0,
+    skipped INT NOT NULL DEFAULT 0,
+    failed INT NOT NULL DEFAULT 0,
+    started_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP
+);
+
+CREATE INDEX idx_report_job_runs_status ON tb_report_job_runs(status);
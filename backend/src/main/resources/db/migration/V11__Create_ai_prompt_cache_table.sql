@@ -0,0 +1,9 @@
+CREATE TABLE tb_ai_prompt_cache (
+    prompt_hash CHAR(64) PRIMARY KEY,
+    model VARCHAR(255) NOT NULL,
+    content TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_ai_prompt_cache_expires_at ON tb_ai_prompt_cache(expires_at);
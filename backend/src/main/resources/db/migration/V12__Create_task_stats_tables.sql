@@ -0,0 +1,33 @@
+CREATE TABLE tb_task_stats (
+    user_id BIGINT PRIMARY KEY REFERENCES tb_users(id) ON DELETE CASCADE,
+    total BIGINT NOT NULL DEFAULT 0,
+    completed BIGINT NOT NULL DEFAULT 0,
+    critical_pending BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE tb_task_tag_stats (
+    tag_id BIGINT PRIMARY KEY REFERENCES tb_tags(id) ON DELETE CASCADE,
+    user_id BIGINT NOT NULL REFERENCES tb_users(id) ON DELETE CASCADE,
+    task_count BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_task_tag_stats_user_id ON tb_task_tag_stats(user_id);
+
+CREATE INDEX idx_tasks_user_pending_due_date ON tb_tasks(user_id, due_date)
+    WHERE completed = FALSE;
+
+INSERT INTO tb_task_stats (user_id, total, completed, critical_pending)
+SELECT u.id,
+       COUNT(t.id),
+       COUNT(t.id) FILTER (WHERE t.completed),
+       COUNT(t.id) FILTER (WHERE NOT t.completed AND t.priority = 'CRITICAL')
+FROM tb_users u
+LEFT JOIN tb_tasks t ON t.user_id = u.id
+GROUP BY u.id;
+
+INSERT INTO tb_task_tag_stats (tag_id, user_id, task_count)
+SELECT g.id, g.user_id, COUNT(tt.task_id)
+FROM tb_tags g
+LEFT JOIN tb_task_tags tt ON tt.tag_id = g.id
+GROUP BY g.id, g.user_id;
@@ -0,0 +1,9 @@
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+ALTER TABLE tb_tasks
+ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+  setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+  setweight(to_tsvector('english', coalesce(description, '')), 'B')
+) STORED;
+
+CREATE INDEX idx_tasks_user_search_vector ON tb_tasks USING GIN (user_id, search_vector);
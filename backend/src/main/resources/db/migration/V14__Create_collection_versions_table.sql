@@ -0,0 +1,8 @@
+CREATE TABLE tb_collection_versions (
+    user_id BIGINT PRIMARY KEY REFERENCES tb_users(id) ON DELETE CASCADE,
+    tasks_version BIGINT NOT NULL DEFAULT 0,
+    tags_version BIGINT NOT NULL DEFAULT 0,
+    reports_version BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO tb_collection_versions (user_id) SELECT id FROM tb_users;
@@ -0,0 +1,16 @@
+ALTER TABLE tb_tasks ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+
+UPDATE tb_tasks t SET change_seq = v.tasks_version
+FROM tb_collection_versions v WHERE v.user_id = t.user_id;
+
+CREATE INDEX idx_tasks_user_change_seq ON tb_tasks (user_id, change_seq, id);
+
+CREATE TABLE tb_task_tombstones (
+    task_id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES tb_users(id) ON DELETE CASCADE,
+    change_seq BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_task_tombstones_user_change_seq ON tb_task_tombstones (user_id, change_seq, task_id);
+CREATE INDEX idx_task_tombstones_deleted_at ON tb_task_tombstones (deleted_at);
@@ -0,0 +1,14 @@
+ALTER TABLE tb_reports ADD COLUMN excerpt VARCHAR(200);
+
+UPDATE tb_reports r SET excerpt = CASE WHEN length(e.text) <= 200 THEN e.text
+    ELSE left(e.text, 199) || '…' END
+FROM (
+    SELECT id, btrim(regexp_replace(regexp_replace(content, '[#*_`>]+', '', 'g'), '\s+', ' ', 'g')) AS text
+    FROM tb_reports
+) e WHERE e.id = r.id;
+
+ALTER TABLE tb_reports ALTER COLUMN content TYPE BYTEA USING convert_to(content, 'UTF8');
+ALTER TABLE tb_reports ALTER COLUMN content SET STORAGE EXTERNAL;
+
+CREATE INDEX idx_reports_user_created_at ON tb_reports(user_id, created_at, id);
+DROP INDEX idx_reports_user_id;
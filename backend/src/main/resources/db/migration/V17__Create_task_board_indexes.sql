@@ -0,0 +1,5 @@
+CREATE INDEX idx_tasks_user_board_pending ON tb_tasks(user_id, priority, due_date, created_at DESC, id DESC)
+WHERE completed = FALSE;
+
+CREATE INDEX idx_tasks_user_board_done ON tb_tasks(user_id, created_at DESC, id DESC)
+WHERE completed = TRUE;
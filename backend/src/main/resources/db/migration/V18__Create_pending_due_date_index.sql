@@ -0,0 +1,2 @@
+CREATE INDEX idx_tasks_pending_due_date ON tb_tasks(due_date, id)
+WHERE completed = FALSE AND due_date IS NOT NULL;
@@ -0,0 +1,5 @@
+CREATE TABLE tb_report_job_run_failures (
+    run_id BIGINT NOT NULL REFERENCES tb_report_job_runs(id) ON DELETE CASCADE,
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (run_id, user_id)
+);
@@ -0,0 +1,4 @@
+CREATE TABLE tb_reminder_watermark (
+    id SMALLINT PRIMARY KEY,
+    sent_until TIMESTAMP WITH TIME ZONE NOT NULL
+);
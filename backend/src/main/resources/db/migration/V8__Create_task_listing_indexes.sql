@@ -0,0 +1,14 @@
+ALTER TABLE tb_tasks
+ADD COLUMN priority_rank SMALLINT GENERATED ALWAYS AS (
+  CASE priority
+    WHEN 'CRITICAL' THEN 4
+    WHEN 'HIGH' THEN 3
+    WHEN 'MEDIUM' THEN 2
+    WHEN 'LOW' THEN 1
+    ELSE 0
+  END
+) STORED;
+
+CREATE INDEX idx_tasks_user_created_at ON tb_tasks(user_id, created_at, id);
+CREATE INDEX idx_tasks_user_due_date ON tb_tasks(user_id, due_date, id);
+CREATE INDEX idx_tasks_user_priority_rank ON tb_tasks(user_id, priority_rank, id);
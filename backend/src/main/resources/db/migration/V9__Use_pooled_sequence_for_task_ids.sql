@@ -0,0 +1 @@
+ALTER SEQUENCE tb_tasks_id_seq INCREMENT BY 50;
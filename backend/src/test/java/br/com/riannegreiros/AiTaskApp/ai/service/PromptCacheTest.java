@@ -0,0 +1,57 @@
+package br.com.riannegreiros.AiTaskApp.ai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import br.com.riannegreiros.AiTaskApp.ai.dto.PromptCacheStats;
+import br.com.riannegreiros.AiTaskApp.ai.model.PromptCacheEntry;
+import br.com.riannegreiros.AiTaskApp.ai.repository.PromptCacheRepository;
+
+class PromptCacheTest {
+
+    private final PromptCacheRepository repository = mock(PromptCacheRepository.class);
+
+    @Test
+    void keyIgnoresWhitespaceButNotModel() {
+        PromptCache cache = new PromptCache(repository, 100, 60, false);
+
+        String key = cache.key("model-a", "SUMMARY:\n  - Total tasks: 3\n");
+        assertThat(cache.key("model-a", "  SUMMARY:\r\n\t- Total   tasks: 3")).isEqualTo(key);
+        assertThat(cache.key("model-a", "SUMMARY:\n- Total tasks: 4")).isNotEqualTo(key);
+        assertThat(cache.key("model-b", "SUMMARY:\n- Total tasks: 3")).isNotEqualTo(key);
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        PromptCache cache = new PromptCache(repository, 100, 60, false);
+        String key = cache.key("model", "prompt");
+
+        assertThat(cache.get(key)).isEmpty();
+        cache.put(key, "model", "report");
+        assertThat(cache.get(key)).contains("report");
+        assertThat(cache.get(key)).contains("report");
+
+        assertThat(cache.stats()).isEqualTo(new PromptCacheStats(2, 1, 1));
+    }
+
+    @Test
+    void fallsBackToPersistedEntries() {
+        PromptCache cache = new PromptCache(repository, 100, 60, true);
+        String key = cache.key("model", "prompt");
+        when(repository.findByPromptHashAndExpiresAtAfter(eq(key), any()))
+                .thenReturn(Optional.of(new PromptCacheEntry(key, "model", "stored report",
+                        LocalDateTime.now().plusMinutes(1))));
+
+        assertThat(cache.get(key)).contains("stored report");
+        cache.put(key, "model", "fresh report");
+
+        verify(repository).save(any(PromptCacheEntry.class));
+        assertThat(cache.stats().hits()).isEqualTo(1);
+    }
+}
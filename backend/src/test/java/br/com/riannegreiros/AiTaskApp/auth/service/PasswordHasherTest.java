@@ -0,0 +1,78 @@
+package br.com.riannegreiros.AiTaskApp.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import br.com.riannegreiros.AiTaskApp.infra.exception.PasswordHashingBusyException;
+
+class PasswordHasherTest {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Test
+    void keepsRequestThreadsAvailableDuringLoginStorm() throws Exception {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(12);
+        String hash = encoder.encode(PASSWORD);
+        long start = System.nanoTime();
+        encoder.matches(PASSWORD, hash);
+        long singleHashNanos = System.nanoTime() - start;
+
+        PasswordHasher hasher = new PasswordHasher(encoder, 12, 1, 2, 1);
+        ExecutorService requestThreads = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> logins = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                logins.add(requestThreads.submit(() -> login(hasher, hash)));
+            }
+
+            long readStart = System.nanoTime();
+            assertThat(requestThreads.submit(() -> "tasks").get(10, TimeUnit.SECONDS))
+                    .isEqualTo("tasks");
+            long readNanos = System.nanoTime() - readStart;
+
+            int accepted = 0;
+            for (Future<Boolean> login : logins) {
+                if (login.get(30, TimeUnit.SECONDS)) {
+                    accepted++;
+                }
+            }
+
+            assertThat(readNanos).isLessThan(singleHashNanos);
+            assertThat(accepted).isPositive().isLessThan(logins.size());
+        } finally {
+            requestThreads.shutdownNow();
+            hasher.shutdown();
+        }
+    }
+
+    @Test
+    void detectsHashesWithOutdatedCost() {
+        String hash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        PasswordHasher current = new PasswordHasher(new BCryptPasswordEncoder(4), 4, 1, 1, 1);
+        PasswordHasher upgraded = new PasswordHasher(new BCryptPasswordEncoder(5), 5, 1, 1, 1);
+        try {
+            assertThat(current.needsRehash(hash)).isFalse();
+            assertThat(upgraded.needsRehash(hash)).isTrue();
+            assertThat(upgraded.matches(PASSWORD, hash)).isTrue();
+            assertThat(upgraded.needsRehash(upgraded.hash(PASSWORD))).isFalse();
+        } finally {
+            current.shutdown();
+            upgraded.shutdown();
+        }
+    }
+
+    private boolean login(PasswordHasher hasher, String hash) {
+        try {
+            return hasher.matches(PASSWORD, hash);
+        } catch (PasswordHashingBusyException e) {
+            assertThat(e.getRetryAfterSeconds()).isEqualTo(1);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.riannegreiros.AiTaskApp.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import br.com.riannegreiros.AiTaskApp.auth.model.User;
+import br.com.riannegreiros.AiTaskApp.infra.exception.UserNotFoundException;
+
+@DataJpaTest(properties = {"spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"})
+@Import(PrincipalResolver.class)
+class PrincipalResolverTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PrincipalResolver principalResolver;
+
+    @Test
+    void referencesAnExistingUser() {
+        User user = entityManager.persist(new User("Jane Doe", "jane.doe@mail.com", "secret"));
+
+        assertThat(principalResolver.userReference(tokenFor(user.getId())).getId())
+                .isEqualTo(user.getId());
+    }
+
+    @Test
+    void rejectsATokenForADeletedUser() {
+        User user = entityManager.persist(new User("Jane Doe", "jane.doe@mail.com", "secret"));
+        entityManager.remove(user);
+        entityManager.flush();
+
+        assertThatThrownBy(() -> principalResolver.userReference(tokenFor(user.getId())))
+                .isInstanceOf(UserNotFoundException.class);
+    }
+
+    private JwtAuthenticationToken tokenFor(Long userId) {
+        return new JwtAuthenticationToken(Jwt.withTokenValue("token").header("alg", "none")
+                .subject(userId.toString()).build());
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.riannegreiros.AiTaskApp.events.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+class UserEventConnectionTest {
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> sent = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder.build().iterator().next().getData().toString().lines().findFirst()
+                    .orElseThrow());
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+
+    private final List<Runnable> pending = new ArrayList<>();
+    private final RecordingEmitter emitter = new RecordingEmitter();
+    private final UserEventConnection connection =
+            new UserEventConnection(emitter, pending::add, 2);
+
+    @Test
+    void deliversBufferedEventsInOrderWithASingleDrain() {
+        assertThat(connection.offer(event("one"))).isTrue();
+        assertThat(connection.offer(event("two"))).isTrue();
+        assertThat(pending).hasSize(1);
+
+        pending.removeFirst().run();
+
+        assertThat(emitter.sent).containsExactly("event:one", "event:two");
+        assertThat(emitter.completed).isFalse();
+    }
+
+    @Test
+    void slowSubscriberIsToldToResyncAndDisconnectedWhenTheBufferOverflows() {
+        connection.offer(event("one"));
+        connection.offer(event("two"));
+
+        assertThat(connection.offer(event("three"))).isFalse();
+        assertThat(connection.offer(event("four"))).isFalse();
+
+        pending.removeFirst().run();
+
+        assertThat(emitter.sent).containsExactly("event:overflow");
+        assertThat(emitter.completed).isTrue();
+    }
+
+    private static SseEventBuilder event(String name) {
+        return SseEmitter.event().name(name);
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.riannegreiros.AiTaskApp.infra.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+class ConnectionPoolGuardFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Test
+    void rejectsRequestsBeyondThePoolWithRetryAfter() throws Exception {
+        ConnectionPoolGuardFilter filter = filter(true);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<MockHttpServletResponse> held = executor.submit(() -> hold(filter));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            MockHttpServletResponse rejected = send(filter);
+            assertThat(rejected.getStatus()).isEqualTo(503);
+            assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+            assertThat(rejected.getContentAsString()).contains("Server is busy");
+            assertThat(meterRegistry.get("http.server.requests.guard.rejected").counter().count())
+                    .isEqualTo(1);
+
+            release.countDown();
+            assertThat(held.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+        }
+
+        assertThat(send(filter).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void passesThroughOnPlatformThreads() throws Exception {
+        ConnectionPoolGuardFilter filter = filter(false);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> hold(filter));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(send(filter).getStatus()).isEqualTo(200);
+            release.countDown();
+        }
+    }
+
+    private ConnectionPoolGuardFilter filter(boolean virtualThreads) {
+        return new ConnectionPoolGuardFilter(virtualThreads, 1, 1, 0, JsonMapper.builder().build(),
+                meterRegistry);
+    }
+
+    private MockHttpServletResponse hold(ConnectionPoolGuardFilter filter) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks/me"), response,
+                new MockFilterChain(new HttpServlet() {
+                    @Override
+                    protected void service(HttpServletRequest request,
+                            HttpServletResponse response) {
+                        entered.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                }));
+        return response;
+    }
+
+    private MockHttpServletResponse send(ConnectionPoolGuardFilter filter) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks/me"), response,
+                new MockFilterChain());
+        return response;
+    }
+}
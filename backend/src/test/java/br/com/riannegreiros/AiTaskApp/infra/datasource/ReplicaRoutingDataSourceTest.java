@@ -0,0 +1,100 @@
+package br.com.riannegreiros.AiTaskApp.infra.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.zaxxer.hikari.HikariDataSource;
+
+class ReplicaRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaRoutingDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate reads;
+    private TransactionTemplate writes;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        dataSource = new ReplicaRoutingDataSource(primary, List.of(replica),
+                new ReadYourWritesTracker(60));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager =
+                new DataSourceTransactionManager(dataSource);
+        reads = new TransactionTemplate(transactionManager);
+        reads.setReadOnly(true);
+        writes = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        dataSource.close();
+        primary.close();
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToTheReplica() {
+        assertThat(readNode()).isEqualTo("replica");
+        assertThat(writeNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void readsFromThePrimaryShortlyAfterTheUserWrote() {
+        authenticate("1");
+        writes.executeWithoutResult(
+                status -> jdbcTemplate.update("UPDATE node SET writes = writes + 1"));
+
+        assertThat(readNode()).isEqualTo("primary");
+
+        authenticate("2");
+        assertThat(readNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void keepsReadingFromTheReplicaWhenTheWriteRollsBack() {
+        authenticate("1");
+        writes.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET writes = writes + 1");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readNode()).isEqualTo("replica");
+    }
+
+    private String readNode() {
+        return reads.execute(status -> node());
+    }
+
+    private String writeNode() {
+        return writes.execute(status -> node());
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private void authenticate(String userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(userId, null, List.of()));
+    }
+
+    private static HikariDataSource database(String name) {
+        HikariDataSource database = new HikariDataSource();
+        database.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        database.setUsername("sa");
+        new JdbcTemplate(database).execute("CREATE TABLE node (name VARCHAR(16), writes INT)");
+        new JdbcTemplate(database).update("INSERT INTO node VALUES (?, 0)", name);
+        return database;
+    }
+}
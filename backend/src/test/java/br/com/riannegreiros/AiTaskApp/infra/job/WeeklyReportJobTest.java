@@ -0,0 +1,102 @@
+package br.com.riannegreiros.AiTaskApp.infra.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import br.com.riannegreiros.AiTaskApp.ai.dto.PromptCacheStats;
+import br.com.riannegreiros.AiTaskApp.ai.service.PromptCache;
+import br.com.riannegreiros.AiTaskApp.auth.model.User;
+import br.com.riannegreiros.AiTaskApp.reports.model.Report;
+import br.com.riannegreiros.AiTaskApp.reports.model.ReportJobRun;
+import br.com.riannegreiros.AiTaskApp.reports.model.ReportJobStatus;
+import br.com.riannegreiros.AiTaskApp.reports.repository.ReportJobRunRepository;
+import br.com.riannegreiros.AiTaskApp.reports.service.ReportService;
+
+@DataJpaTest(properties = {"spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.reports.weekly-job.concurrency=2", "app.reports.weekly-job.page-size=2"})
+@Import({WeeklyReportJob.class, SimpleMeterRegistry.class})
+class WeeklyReportJobTest {
+
+    private static final LocalDate RUN_DATE = LocalDate.of(2030, 1, 7);
+
+    @MockitoBean
+    private ReportService reportService;
+
+    @MockitoBean
+    private PromptCache promptCache;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReportJobRunRepository runRepository;
+
+    @Autowired
+    private WeeklyReportJob job;
+
+    private List<Long> userIds;
+
+    @BeforeEach
+    void setUp() {
+        userIds = List.of("ana", "bruno", "carla", "diego", "elisa").stream()
+                .map(name -> entityManager.persist(new User(name, name + "@mail.com", "secret"))
+                        .getId())
+                .toList();
+        when(promptCache.stats()).thenReturn(new PromptCacheStats(0, 0, 0));
+        when(reportService.generateReport(anyLong())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void resumesAfterTheCheckpointAndRetriesFailedUsers() {
+        ReportJobRun interrupted = new ReportJobRun(RUN_DATE);
+        interrupted.checkpoint(userIds.get(1), 1, 0, List.of(userIds.get(0)));
+        entityManager.persist(interrupted);
+        entityManager.flush();
+        when(reportService.generateReport(userIds.get(2)))
+                .thenReturn(Optional.of(new Report(null, "Week")));
+        when(reportService.generateReport(userIds.get(3)))
+                .thenThrow(new IllegalStateException("AI provider unavailable"));
+
+        job.run(RUN_DATE);
+
+        verify(reportService).generateReport(userIds.get(0));
+        verify(reportService, never()).generateReport(userIds.get(1));
+        verify(reportService).generateReport(userIds.get(2));
+        verify(reportService, times(2)).generateReport(userIds.get(3));
+        verify(reportService).generateReport(userIds.get(4));
+        ReportJobRun run = runRepository.findByRunDate(RUN_DATE).orElseThrow();
+        assertThat(run.getStatus()).isEqualTo(ReportJobStatus.COMPLETED);
+        assertThat(run.getLastUserId()).isEqualTo(userIds.get(4));
+        assertThat(run.getFailedUserIds()).containsExactly(userIds.get(3));
+        assertThat(run.getSucceeded()).isEqualTo(2);
+        assertThat(run.getSkipped()).isEqualTo(2);
+        assertThat(run.getFailed()).isEqualTo(1);
+    }
+
+    @Test
+    void skipsARunThatAlreadyCompleted() {
+        ReportJobRun completed = new ReportJobRun(RUN_DATE);
+        completed.complete();
+        entityManager.persist(completed);
+        entityManager.flush();
+
+        job.run(RUN_DATE);
+
+        verify(reportService, never()).generateReport(anyLong());
+    }
+}
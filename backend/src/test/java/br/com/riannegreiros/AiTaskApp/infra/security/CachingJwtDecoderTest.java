@@ -0,0 +1,75 @@
+package br.com.riannegreiros.AiTaskApp.infra.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CachingJwtDecoderTest {
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @Test
+    void verifiesEachAccessTokenOnce() {
+        JwtDecoder decoder = decoder("access", Instant.now().plusSeconds(600), 100);
+
+        Jwt first = decoder.decode("token-a");
+        Jwt second = decoder.decode("token-a");
+        decoder.decode("token-b");
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void doesNotCacheRefreshOrExpiredTokens() {
+        decoder("refresh", Instant.now().plusSeconds(600), 100).decode("token");
+        decoder("refresh", Instant.now().plusSeconds(600), 100).decode("token");
+        JwtDecoder expired = decoder("access", Instant.now().minusSeconds(1), 100);
+        expired.decode("token");
+        expired.decode("token");
+
+        assertThat(verifications).hasValue(4);
+    }
+
+    @Test
+    void expiresCachedTokensAtTheirAcceptanceDeadline() throws InterruptedException {
+        Instant deadline = Instant.now().plusMillis(200);
+        JwtDecoder decoder = new CachingJwtDecoder(token -> {
+            verifications.incrementAndGet();
+            return token(token, "access", Instant.now().plusSeconds(600));
+        }, 100, jwt -> deadline, new SimpleMeterRegistry());
+
+        decoder.decode("token");
+        decoder.decode("token");
+        Thread.sleep(300);
+        decoder.decode("token");
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void verifiesEveryTimeWhenDisabled() {
+        JwtDecoder decoder = decoder("access", Instant.now().plusSeconds(600), 0);
+
+        decoder.decode("token");
+        decoder.decode("token");
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    private JwtDecoder decoder(String type, Instant expiresAt, long maxSize) {
+        return new CachingJwtDecoder(token -> {
+            verifications.incrementAndGet();
+            return token(token, type, expiresAt);
+        }, maxSize, Jwt::getExpiresAt, new SimpleMeterRegistry());
+    }
+
+    private static Jwt token(String token, String type, Instant expiresAt) {
+        return Jwt.withTokenValue(token).header("alg", "none").subject("1").claim("type", type)
+                .issuedAt(expiresAt.minusSeconds(1800)).expiresAt(expiresAt).build();
+    }
+}
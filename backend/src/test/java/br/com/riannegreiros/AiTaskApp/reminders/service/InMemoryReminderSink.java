@@ -0,0 +1,22 @@
+package br.com.riannegreiros.AiTaskApp.reminders.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import br.com.riannegreiros.AiTaskApp.reminders.dto.TaskReminder;
+
+class InMemoryReminderSink implements ReminderSink {
+    private final List<TaskReminder> reminders = new ArrayList<>();
+
+    @Override
+    public synchronized void send(TaskReminder reminder) {
+        reminders.add(reminder);
+    }
+
+    synchronized List<TaskReminder> reminders() {
+        return List.copyOf(reminders);
+    }
+
+    synchronized void clear() {
+        reminders.clear();
+    }
+}
@@ -0,0 +1,181 @@
+package br.com.riannegreiros.AiTaskApp.reminders.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import br.com.riannegreiros.AiTaskApp.auth.model.User;
+import br.com.riannegreiros.AiTaskApp.events.dto.UserEvent;
+import br.com.riannegreiros.AiTaskApp.events.model.UserEventType;
+import br.com.riannegreiros.AiTaskApp.reminders.dto.TaskReminder;
+import br.com.riannegreiros.AiTaskApp.reminders.model.ReminderType;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Priority;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Task;
+
+@DataJpaTest(properties = {"spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.reminders.enabled=false", "app.reminders.max-pending=4",
+        "app.reminders.page-size=2"})
+@Import({ReminderScheduler.class, InMemoryReminderSink.class, SimpleMeterRegistry.class})
+class ReminderSchedulerTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReminderScheduler scheduler;
+
+    @Autowired
+    private InMemoryReminderSink sink;
+
+    private User user;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        sink.clear();
+        user = entityManager.persist(new User("Jane Doe", "jane.doe@mail.com", "secret"));
+        now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    @Test
+    void firesEveryPendingTaskOnceWhileHoldingABoundedWindow() {
+        Task recentlyOverdue = persist(now.minus(Duration.ofMinutes(10)), false);
+        persist(now.minus(Duration.ofHours(2)), false);
+        persist(now.plus(Duration.ofMinutes(20)), true);
+        persist(null, false);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 1; i <= 25; i++) {
+            expected.add(persist(now.plus(Duration.ofMinutes(i * 7L)), false).getId());
+        }
+        entityManager.flush();
+
+        scheduler.start(now);
+
+        assertThat(sink.reminders()).containsExactly(new TaskReminder(recentlyOverdue.getId(),
+                user.getId(), now.minus(Duration.ofMinutes(10)), ReminderType.OVERDUE));
+        sink.clear();
+        for (int minute = 0; minute < 240; minute++) {
+            Instant time = now.plus(Duration.ofMinutes(minute));
+            scheduler.advance(time);
+            assertThat(scheduler.pendingCount()).isLessThanOrEqualTo(4);
+            assertThat(sink.reminders()).allSatisfy(
+                    reminder -> assertThat(reminder.dueAt()).isBeforeOrEqualTo(time));
+            assertThat(sink.reminders()).hasSize(Math.min(minute / 7, expected.size()));
+        }
+
+        assertThat(sink.reminders()).extracting(TaskReminder::taskId)
+                .containsExactlyElementsOf(expected);
+        assertThat(sink.reminders()).extracting(TaskReminder::type).containsOnly(ReminderType.DUE);
+    }
+
+    @Test
+    void appliesTaskWritesWithoutQueryingTheDatabase() {
+        scheduler.start(now);
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        TaskResponse first = response(1L, now.plus(Duration.ofMinutes(5)), false);
+        TaskResponse second = response(2L, now.plus(Duration.ofMinutes(10)), false);
+        scheduler.onUserEvent(event(UserEventType.TASK_CREATED, first));
+        scheduler.onUserEvent(event(UserEventType.TASK_CREATED, second));
+        scheduler.onUserEvent(event(UserEventType.TASK_CREATED,
+                response(3L, now.plus(Duration.ofHours(3)), false)));
+        scheduler.onUserEvent(event(UserEventType.TASK_CREATED,
+                response(4L, now.minus(Duration.ofMinutes(1)), false)));
+        assertThat(scheduler.pendingCount()).isEqualTo(2);
+
+        scheduler.onUserEvent(event(UserEventType.TASK_TOGGLED,
+                response(2L, now.plus(Duration.ofMinutes(10)), true)));
+        scheduler.onUserEvent(event(UserEventType.TASK_UPDATED,
+                response(1L, now.plus(Duration.ofMinutes(2)), false)));
+        scheduler.onUserEvent(event(UserEventType.TASK_CREATED,
+                response(5L, now.plus(Duration.ofMinutes(4)), false)));
+        scheduler.onUserEvent(UserEvent.taskDeleted(user.getId(), 5L, 1));
+        assertThat(scheduler.pendingCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        scheduler.advance(now.plus(Duration.ofMinutes(3)));
+        scheduler.advance(now.plus(Duration.ofMinutes(15)));
+
+        assertThat(sink.reminders()).containsExactly(new TaskReminder(1L, user.getId(),
+                now.plus(Duration.ofMinutes(2)), ReminderType.DUE));
+    }
+
+    @Test
+    void catchesUpOnlyPastTheLastSentReminderOnRestart() {
+        persist(now.minus(Duration.ofMinutes(10)), false);
+        persist(now.minus(Duration.ofMinutes(2)), false);
+        Task unsent = persist(now.plus(Duration.ofSeconds(30)), false);
+        entityManager.flush();
+
+        scheduler.start(now.minus(Duration.ofMinutes(5)));
+        scheduler.advance(now);
+        assertThat(sink.reminders()).hasSize(2);
+        sink.clear();
+
+        scheduler.start(now.plus(Duration.ofMinutes(1)));
+
+        assertThat(sink.reminders()).containsExactly(new TaskReminder(unsent.getId(),
+                user.getId(), now.plus(Duration.ofSeconds(30)), ReminderType.OVERDUE));
+    }
+
+    @Test
+    void evictsTheLatestRemindersWhenFullAndReloadsThemLater() {
+        scheduler.start(now);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            Task task = persist(now.plus(Duration.ofMinutes(i * 5L)), false);
+            entityManager.flush();
+            scheduler.onUserEvent(event(UserEventType.TASK_CREATED, response(task)));
+            expected.add(task.getId());
+        }
+        assertThat(scheduler.pendingCount()).isEqualTo(3);
+
+        for (int minute = 0; minute < 60; minute++) {
+            scheduler.advance(now.plus(Duration.ofMinutes(minute)));
+            assertThat(scheduler.pendingCount()).isLessThanOrEqualTo(4);
+        }
+
+        assertThat(sink.reminders()).extracting(TaskReminder::taskId)
+                .containsExactlyElementsOf(expected);
+    }
+
+    private Task persist(Instant dueAt, boolean completed) {
+        Task task = new Task("Task", Priority.MEDIUM,
+                dueAt == null ? null : OffsetDateTime.ofInstant(dueAt, ZoneOffset.UTC), user,
+                null);
+        task.setCompleted(completed);
+        return entityManager.persist(task);
+    }
+
+    private UserEvent event(UserEventType type, TaskResponse task) {
+        return UserEvent.taskChanged(user.getId(), type, task, 1);
+    }
+
+    private TaskResponse response(Task task) {
+        return response(task.getId(), task.getDueDate().toInstant(), task.isCompleted());
+    }
+
+    private TaskResponse response(Long id, Instant dueAt, boolean completed) {
+        return new TaskResponse(id.toString(), user.getId().toString(), "Task", Priority.MEDIUM,
+                OffsetDateTime.ofInstant(dueAt, ZoneOffset.UTC), completed, null, List.of(), null,
+                null);
+    }
+}
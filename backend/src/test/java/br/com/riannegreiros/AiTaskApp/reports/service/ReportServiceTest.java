@@ -0,0 +1,142 @@
+package br.com.riannegreiros.AiTaskApp.reports.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import br.com.riannegreiros.AiTaskApp.ai.service.AiService;
+import br.com.riannegreiros.AiTaskApp.auth.model.User;
+import br.com.riannegreiros.AiTaskApp.auth.service.PrincipalResolver;
+import br.com.riannegreiros.AiTaskApp.infra.exception.ReportNotFoundException;
+import br.com.riannegreiros.AiTaskApp.infra.version.CollectionVersionService;
+import br.com.riannegreiros.AiTaskApp.reports.dto.ReportPageResponse;
+import br.com.riannegreiros.AiTaskApp.reports.dto.ReportSummaryResponse;
+import br.com.riannegreiros.AiTaskApp.reports.model.Report;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Priority;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Task;
+import br.com.riannegreiros.AiTaskApp.tasks.service.TaskStatsService;
+
+@DataJpaTest(properties = {"spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"})
+@Import({ReportService.class, TaskStatsService.class, CollectionVersionService.class,
+        PrincipalResolver.class})
+class ReportServiceTest {
+
+    private static final String CONTENT = """
+            ## Overall assessment
+            You closed **most** of your critical work this week, but the API documentation keeps
+            slipping. Block an hour tomorrow morning before meetings start.
+            """.repeat(10);
+
+    @MockitoBean
+    private AiService aiService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReportService reportService;
+
+    private User user;
+    private User otherUser;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(new User("Jane Doe", "jane.doe@mail.com", "secret"));
+        otherUser = entityManager.persist(new User("John Doe", "john.doe@mail.com", "secret"));
+        for (int i = 0; i < 25; i++) {
+            entityManager.persist(new Report(user, "Week " + i + "\n" + CONTENT));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void pagesThroughSummariesNewestFirst() {
+        List<ReportSummaryResponse> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ReportPageResponse page = reportService.listUserReports(cursor, 10, tokenFor(user));
+            seen.addAll(page.items());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(25).extracting(ReportSummaryResponse::id).doesNotHaveDuplicates()
+                .isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(seen.getFirst().excerpt())
+                .startsWith("Week 24 Overall assessment You closed most").hasSize(200)
+                .endsWith("…");
+        assertThat(reportService.listUserReports(null, 10, tokenFor(otherUser)).items()).isEmpty();
+    }
+
+    @Test
+    void storesContentCompressedAndServesItPerReport() {
+        Long reportId = reportService.listUserReports(null, 1, tokenFor(user)).items().getFirst()
+                .id();
+
+        byte[] stored = (byte[]) entityManager.getEntityManager()
+                .createNativeQuery("SELECT content FROM tb_reports WHERE id = :id")
+                .setParameter("id", reportId).getSingleResult();
+
+        assertThat(stored.length).isLessThan(CONTENT.length() / 4);
+        assertThat(reportService.getUserReport(reportId, tokenFor(user)).content())
+                .isEqualTo("Week 24\n" + CONTENT);
+        assertThatThrownBy(() -> reportService.getUserReport(reportId, tokenFor(otherUser)))
+                .isInstanceOf(ReportNotFoundException.class);
+    }
+
+    @Test
+    void summarizesTheLastWeekAndLabelsAllTimeCountsAsContext() {
+        User owner = entityManager.find(User.class, otherUser.getId());
+        Task old = entityManager.persist(new Task("Old chore", Priority.MEDIUM, null, owner, null));
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE tb_tasks SET created_at = :createdAt WHERE id = :id")
+                .setParameter("createdAt", LocalDateTime.now().minusDays(30))
+                .setParameter("id", old.getId()).executeUpdate();
+        entityManager.persist(new Task("Ship release", Priority.CRITICAL,
+                OffsetDateTime.now().minusDays(1), owner, null));
+        Task notes = new Task("Write notes", Priority.LOW, null, owner, null);
+        notes.setCompleted(true);
+        entityManager.persist(notes);
+        entityManager.flush();
+        entityManager.clear();
+
+        String prompt = reportService.weeklyPrompt(otherUser.getId()).orElseThrow();
+
+        assertThat(prompt).contains("""
+                SUMMARY (tasks created in the last 7 days):
+                - Total tasks: 2
+                - Completed: 1
+                - Pending: 1
+                - Overdue: 1
+                - Critical priority pending: 1
+                """).contains("""
+                ALL-TIME CONTEXT (every task the user has):
+                - Total tasks: 3
+                - Completed: 1
+                - Pending: 2
+                - Critical priority pending: 1
+                """).contains("[CRITICAL] Ship release").doesNotContain("Old chore");
+    }
+
+    private JwtAuthenticationToken tokenFor(User user) {
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "none")
+                .subject(user.getId().toString()).build();
+        return new JwtAuthenticationToken(jwt);
+    }
+}
@@ -0,0 +1,167 @@
+package br.com.riannegreiros.AiTaskApp.reports.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import br.com.riannegreiros.AiTaskApp.ai.repository.PromptCacheRepository;
+import br.com.riannegreiros.AiTaskApp.ai.service.AiService;
+import br.com.riannegreiros.AiTaskApp.ai.service.PromptCache;
+import br.com.riannegreiros.AiTaskApp.auth.service.PrincipalResolver;
+import br.com.riannegreiros.AiTaskApp.infra.version.CollectionVersionService;
+import br.com.riannegreiros.AiTaskApp.reports.controller.ReportController;
+import br.com.riannegreiros.AiTaskApp.reports.dto.ReportJobResponse;
+import br.com.riannegreiros.AiTaskApp.reports.model.Report;
+import br.com.riannegreiros.AiTaskApp.reports.model.ReportJobState;
+import reactor.core.publisher.Flux;
+
+class ReportStreamServiceTest {
+
+    private static final List<String> TOKENS = List.of("Great", " week", "!\n\n", "Keep going.");
+
+    private final ReportService reportService = mock(ReportService.class);
+    private final PrincipalResolver principalResolver = mock(PrincipalResolver.class);
+    private final ReportGenerationService reportGenerationService =
+            new ReportGenerationService(reportService, principalResolver, 1, 1, 60);
+    private final JwtAuthenticationToken token = new JwtAuthenticationToken(
+            Jwt.withTokenValue("token").header("alg", "none").subject("1").build());
+
+    private FakeChatModel chatModel;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        useChatModel(new FakeChatModel(Flux.fromIterable(TOKENS)));
+        when(principalResolver.userId(token)).thenReturn(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportGenerationService.shutdown();
+    }
+
+    @Test
+    void streamsTokensAndSavesFullContent() throws Exception {
+        Report saved = mock(Report.class);
+        when(saved.getId()).thenReturn(42L);
+        when(reportService.weeklyPrompt(1L)).thenReturn(Optional.of("prompt"));
+        when(reportService.saveReport(1L, String.join("", TOKENS))).thenReturn(saved);
+
+        String body = stream();
+
+        assertThat(body).contains("event:token", "\"text\":\" week\"", "\"text\":\"!\\n\\n\"")
+                .contains("event:done", "\"reportId\":42");
+        assertThat(body.indexOf("event:done")).isGreaterThan(body.lastIndexOf("event:token"));
+        verify(reportService).saveReport(1L, "Great week!\n\nKeep going.");
+        assertThat(reportGenerationService.startStream(1L)).isPresent();
+    }
+
+    @Test
+    void rejectsAStreamWhileAReportIsBeingGenerated() throws Exception {
+        String jobId = reportGenerationService.startStream(1L).orElseThrow();
+
+        String body = stream();
+
+        assertThat(body).contains("event:error", "A report is already being generated")
+                .doesNotContain("event:done");
+        assertThat(chatModel.streamed).isFalse();
+        verify(reportService, never()).weeklyPrompt(anyLong());
+        assertThat(reportGenerationService.enqueue(token))
+                .isEqualTo(new ReportJobResponse(jobId, ReportJobState.RUNNING, null, null));
+    }
+
+    @Test
+    void returnsLatestReportWhenNothingToGenerate() throws Exception {
+        when(reportService.weeklyPrompt(1L)).thenReturn(Optional.empty());
+        when(reportService.latestReportId(1L)).thenReturn(7L);
+
+        String body = stream();
+
+        assertThat(body).doesNotContain("event:token").contains("event:done", "\"reportId\":7");
+        assertThat(chatModel.streamed).isFalse();
+        verify(reportService, never()).saveReport(anyLong(), anyString());
+    }
+
+    @Test
+    void reportsErrorWithoutSavingPartialContent() throws Exception {
+        useChatModel(new FakeChatModel(
+                Flux.just("partial").concatWith(Flux.error(new IllegalStateException("boom")))));
+        when(reportService.weeklyPrompt(1L)).thenReturn(Optional.of("prompt"));
+
+        String body = stream();
+
+        assertThat(body).contains("event:error", "Failed to stream AI prompt")
+                .doesNotContain("event:done");
+        verify(reportService, never()).saveReport(any(), any());
+        assertThat(reportGenerationService.startStream(1L)).isPresent();
+    }
+
+    private void useChatModel(FakeChatModel model) {
+        chatModel = model;
+        PromptCache promptCache =
+                new PromptCache(mock(PromptCacheRepository.class), 100, 60, false);
+        AiService aiService =
+                new AiService(ChatClient.builder(chatModel), promptCache, 0, "fake-model",
+                        new SimpleMeterRegistry());
+        ReportStreamService streamService =
+                new ReportStreamService(reportService, reportGenerationService, aiService,
+                        principalResolver, 30);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ReportController(reportService,
+                reportGenerationService, streamService,
+                mock(CollectionVersionService.class))).build();
+    }
+
+    private String stream() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/reports/me/stream").principal(token))
+                .andExpect(request().asyncStarted()).andReturn();
+        mockMvc.perform(asyncDispatch(result));
+        return result.getResponse().getContentAsString();
+    }
+
+    private static class FakeChatModel implements ChatModel {
+
+        private final Flux<String> tokens;
+        private boolean streamed;
+
+        FakeChatModel(Flux<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        @Override
+        public ChatResponse call(Prompt prompt) {
+            throw new UnsupportedOperationException("Only streaming is faked");
+        }
+
+        @Override
+        public Flux<ChatResponse> stream(Prompt prompt) {
+            streamed = true;
+            return tokens.delayElements(Duration.ofMillis(5))
+                    .map(text -> new ChatResponse(List.of(new Generation(new AssistantMessage(text)))));
+        }
+    }
+}
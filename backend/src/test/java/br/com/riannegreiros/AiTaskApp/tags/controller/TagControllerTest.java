@@ -0,0 +1,72 @@
+package br.com.riannegreiros.AiTaskApp.tags.controller;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import br.com.riannegreiros.AiTaskApp.infra.exception.GlobalExceptionHandler;
+import br.com.riannegreiros.AiTaskApp.infra.exception.TagNotFoundException;
+import br.com.riannegreiros.AiTaskApp.infra.version.CollectionVersionService;
+import br.com.riannegreiros.AiTaskApp.infra.version.VersionedCollection;
+import br.com.riannegreiros.AiTaskApp.tags.Service.TagService;
+import br.com.riannegreiros.AiTaskApp.tags.model.dto.TagResponse;
+
+class TagControllerTest {
+
+    private static final String ETAG = "\"tags-1-3\"";
+
+    private final TagService tagService = mock(TagService.class);
+    private final CollectionVersionService collectionVersionService =
+            mock(CollectionVersionService.class);
+    private final JwtAuthenticationToken token = new JwtAuthenticationToken(
+            Jwt.withTokenValue("token").header("alg", "none").subject("1").build());
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new TagController(tagService, collectionVersionService))
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+        when(collectionVersionService.etag(token, VersionedCollection.TAGS)).thenReturn(ETAG);
+    }
+
+    @Test
+    void returnsTagsWithETag() throws Exception {
+        when(tagService.listTags(token)).thenReturn(List.of(new TagResponse("7", "work")));
+
+        mockMvc.perform(get("/api/tags/me").principal(token)).andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETAG))
+                .andExpect(jsonPath("$[0].name").value("work"));
+    }
+
+    @Test
+    void answersMatchingIfNoneMatchWithoutListingTags() throws Exception {
+        mockMvc.perform(get("/api/tags/me").principal(token).header("If-None-Match", ETAG))
+                .andExpect(status().isNotModified()).andExpect(header().string("ETag", ETAG));
+
+        verify(tagService, never()).listTags(token);
+    }
+
+    @Test
+    void answersNotFoundForATagTheCallerDoesNotOwn() throws Exception {
+        doThrow(new TagNotFoundException("Tag not found with ID: 7")).when(tagService)
+                .deleteTag("7", token);
+
+        mockMvc.perform(delete("/api/tags/me/7").principal(token))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.riannegreiros.AiTaskApp.tasks.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import br.com.riannegreiros.AiTaskApp.infra.version.CollectionVersionService;
+import br.com.riannegreiros.AiTaskApp.infra.version.VersionedCollection;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TagSummary;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskPageResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Priority;
+import br.com.riannegreiros.AiTaskApp.tasks.model.TaskSort;
+import br.com.riannegreiros.AiTaskApp.tasks.model.TaskStatus;
+import br.com.riannegreiros.AiTaskApp.tasks.service.TaskService;
+import br.com.riannegreiros.AiTaskApp.tasks.service.TaskStatsService;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+class TaskControllerTest {
+
+    private static final String ETAG = "\"tasks-1-9\"";
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private final TaskService taskService = mock(TaskService.class);
+    private final CollectionVersionService collectionVersionService =
+            mock(CollectionVersionService.class);
+    private final JwtAuthenticationToken token = new JwtAuthenticationToken(
+            Jwt.withTokenValue("token").header("alg", "none").subject("1").build());
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new TaskController(taskService, mock(TaskStatsService.class),
+                        collectionVersionService))
+                .build();
+        when(collectionVersionService.etag(token, VersionedCollection.TASKS)).thenReturn(ETAG);
+
+        TagSummary work = new TagSummary(3L, "work");
+        TagSummary urgent = new TagSummary(5L, "urgent");
+        when(taskService.listUserTasks(TaskSort.CREATED_AT, TaskStatus.ALL, null, 50, token))
+                .thenReturn(new TaskPageResponse(List.of(
+                        task("10", List.of(work, urgent)), task("11", List.of(urgent)),
+                        task("12", List.of())), "next"));
+    }
+
+    @Test
+    void servesFullJsonByDefault() throws Exception {
+        mockMvc.perform(get("/api/tasks/me").principal(token).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", ETAG))
+                .andExpect(jsonPath("$.items[0].userId").value("1"))
+                .andExpect(jsonPath("$.items[0].tags[1].name").value("urgent"));
+    }
+
+    @Test
+    void servesCompactJsonWithTagDictionary() throws Exception {
+        mockMvc.perform(get("/api/tasks/me").principal(token)
+                .accept(TaskController.COMPACT_JSON_VALUE)).andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(TaskController.COMPACT_JSON_VALUE))
+                .andExpect(header().string("ETag", "\"tasks-1-9-compact-json\""))
+                .andExpect(header().string("Vary", "Accept"))
+                .andExpect(jsonPath("$.userId").value(1))
+                .andExpect(jsonPath("$.tags.length()").value(2))
+                .andExpect(jsonPath("$.tags[1].name").value("urgent"))
+                .andExpect(jsonPath("$.items[0].id").value(10))
+                .andExpect(jsonPath("$.items[0].userId").doesNotExist())
+                .andExpect(jsonPath("$.items[1].tags[0]").value(1))
+                .andExpect(jsonPath("$.items[2].tags").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void servesCompactCbor() throws Exception {
+        byte[] body = mockMvc
+                .perform(get("/api/tasks/me").principal(token)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("ETag", "\"tasks-1-9-compact-cbor\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode page = new CBORMapper().readTree(body);
+        assertThat(page.get("userId").asLong()).isEqualTo(1);
+        assertThat(page.get("tags").get(0).get("name").asString()).isEqualTo("work");
+        assertThat(page.get("items").get(0).get("tags").get(1).asInt()).isEqualTo(1);
+    }
+
+    private TaskResponse task(String id, List<TagSummary> tags) {
+        return new TaskResponse(id, "1", "Task " + id, Priority.MEDIUM, null, false, null, tags,
+                CREATED, CREATED);
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.riannegreiros.AiTaskApp.tasks.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import br.com.riannegreiros.AiTaskApp.auth.model.User;
+import br.com.riannegreiros.AiTaskApp.tags.model.Tag;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TagSummary;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBoardColumnResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBoardResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskPageResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.model.BoardColumn;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Priority;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Task;
+
+class TaskBoardTest extends TaskServiceTestSupport {
+
+    private static final Priority[] PRIORITIES =
+            {Priority.CRITICAL, Priority.HIGH, Priority.MEDIUM, Priority.LOW, null};
+    private static final OffsetDateTime DUE = OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0,
+            ZoneOffset.UTC);
+
+    private int taskCount;
+
+    @Test
+    void boardGroupsTasksByColumnWithCountsAndOrderedFirstPage() {
+        addTasks(60);
+
+        TaskBoardResponse board = taskService.getBoard(3, tokenFor(user));
+
+        assertThat(board.columns()).extracting(TaskBoardColumnResponse::column)
+                .containsExactly(BoardColumn.values());
+        for (TaskBoardColumnResponse column : board.columns()) {
+            List<String> expected = expectedIds(column.column());
+            assertThat(column.count()).isEqualTo(expected.size());
+            assertThat(column.items()).extracting(TaskResponse::id)
+                    .containsExactlyElementsOf(expected.subList(0, 3));
+            assertThat(column.nextCursor()).isNotNull();
+        }
+    }
+
+    @Test
+    void boardColumnCursorWalksEveryTaskOnce() {
+        addTasks(60);
+
+        for (BoardColumn column : BoardColumn.values()) {
+            List<String> seen = new ArrayList<>();
+            String cursor = null;
+            do {
+                TaskPageResponse page =
+                        taskService.listBoardColumn(column, cursor, 2, tokenFor(user));
+                page.items().forEach(task -> seen.add(task.id()));
+                cursor = page.nextCursor();
+            } while (cursor != null);
+
+            assertThat(seen).containsExactlyElementsOf(expectedIds(column));
+        }
+    }
+
+    @Test
+    void boardIsLoadedWithASingleStatement() {
+        Tag tag = entityManager.persist(new Tag("work", user));
+        addTasks(300);
+        List<Task> tagged = entityManager.getEntityManager()
+                .createQuery("SELECT t FROM Task t WHERE t.id IN :ids", Task.class)
+                .setParameter("ids", expectedIds(BoardColumn.CRITICAL).subList(0, 2).stream()
+                        .map(Long::valueOf).toList())
+                .getResultList();
+        Tag managedTag = entityManager.find(Tag.class, tag.getId());
+        tagged.forEach(task -> task.setTags(Set.of(managedTag)));
+        entityManager.flush();
+        entityManager.clear();
+
+        TaskBoardResponse[] board = new TaskBoardResponse[1];
+        long statements = countStatements(() -> board[0] = taskService.getBoard(5, tokenFor(user)));
+
+        assertThat(statements).isEqualTo(1);
+        assertThat(board[0].columns()).allSatisfy(column -> assertThat(column.items()).hasSize(5));
+        assertThat(board[0].columns().getFirst().items()).extracting(TaskResponse::tags)
+                .startsWith(List.of(new TagSummary(tag.getId(), "work")),
+                        List.of(new TagSummary(tag.getId(), "work")), List.of());
+    }
+
+    private void addTasks(int totalTasks) {
+        User owner = entityManager.find(User.class, user.getId());
+        IntStream.range(taskCount, totalTasks).forEach(i -> {
+            Task task = new Task("Task " + i, PRIORITIES[i % PRIORITIES.length],
+                    i % 3 == 0 ? null : DUE.plusDays(i % 4), owner, null);
+            task.setCompleted(i % 6 == 5);
+            entityManager.persist(task);
+        });
+        taskCount = totalTasks;
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private List<String> expectedIds(BoardColumn column) {
+        List<Task> tasks = entityManager.getEntityManager()
+                .createQuery("SELECT t FROM Task t WHERE t.user.id = :userId", Task.class)
+                .setParameter("userId", user.getId()).getResultList();
+        Comparator<Task> newestFirst = Comparator.comparing(Task::getCreatedAt)
+                .thenComparing(Task::getId).reversed();
+        Comparator<Task> order = column.completed() ? newestFirst
+                : Comparator.comparing(Task::getDueDate,
+                        Comparator.nullsLast(Comparator.naturalOrder())).thenComparing(newestFirst);
+        return tasks.stream()
+                .filter(task -> task.isCompleted() == column.completed())
+                .filter(task -> column.completed() || task.getPriority() == column.priority())
+                .sorted(order).map(task -> task.getId().toString()).toList();
+    }
+
+}
@@ -0,0 +1,194 @@
+package br.com.riannegreiros.AiTaskApp.tasks.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import br.com.riannegreiros.AiTaskApp.auth.model.User;
+import br.com.riannegreiros.AiTaskApp.auth.service.PrincipalResolver;
+import br.com.riannegreiros.AiTaskApp.events.dto.UserEvent;
+import br.com.riannegreiros.AiTaskApp.events.model.UserEventType;
+import br.com.riannegreiros.AiTaskApp.infra.exception.TagNotFoundException;
+import br.com.riannegreiros.AiTaskApp.infra.version.CollectionVersionService;
+import br.com.riannegreiros.AiTaskApp.tags.Service.TagService;
+import br.com.riannegreiros.AiTaskApp.tags.model.Tag;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBatchAction;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBatchOperation;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBatchRequest;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskChangesResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskRequest;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.UpdateTaskRequest;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Priority;
+
+@DataJpaTest(properties = {"spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"})
+@Import({TaskService.class, TaskStatsService.class, TagService.class,
+        CollectionVersionService.class, PrincipalResolver.class})
+@RecordApplicationEvents
+class TaskChangesTest {
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    private JwtAuthenticationToken token;
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(new User("Jane Doe", "jane.doe@mail.com", "secret"));
+        taskStatsService.initializeUser(user.getId());
+        token = new JwtAuthenticationToken(Jwt.withTokenValue("token").header("alg", "none")
+                .subject(user.getId().toString()).build());
+    }
+
+    @Test
+    void returnsOnlyTasksChangedOrDeletedSinceTheCursor() {
+        String report = save("Report", List.of()).id();
+        String review = save("Review", List.of()).id();
+        String plan = save("Plan", List.of()).id();
+
+        TaskChangesResponse full = taskService.listChanges(null, 50, token);
+        assertThat(full.changed()).extracting(TaskResponse::id).containsExactly(report, review, plan);
+        assertThat(full.hasMore()).isFalse();
+
+        taskService.updateTask(review, new UpdateTaskRequest("Review v2", Priority.HIGH, null,
+                null, null), token);
+        taskService.deleteTask(report, token);
+
+        TaskChangesResponse delta = taskService.listChanges(full.cursor(), 50, token);
+        assertThat(delta.changed()).extracting(TaskResponse::title).containsExactly("Review v2");
+        assertThat(delta.deleted()).containsExactly(report);
+        assertThat(delta.resetRequired()).isFalse();
+
+        assertThat(taskService.listChanges(delta.cursor(), 50, token).changed()).isEmpty();
+    }
+
+    @Test
+    void pagesThroughChangesAndDeletionsInSequenceOrder() {
+        String first = save("First", List.of()).id();
+        String cursor = taskService.listChanges(null, 50, token).cursor();
+        save("Second", List.of());
+        taskService.deleteTask(first, token);
+        save("Third", List.of());
+
+        TaskChangesResponse page = taskService.listChanges(cursor, 1, token);
+        assertThat(page.changed()).extracting(TaskResponse::title).containsExactly("Second");
+        assertThat(page.hasMore()).isTrue();
+
+        page = taskService.listChanges(page.cursor(), 1, token);
+        assertThat(page.changed()).isEmpty();
+        assertThat(page.deleted()).containsExactly(first);
+
+        page = taskService.listChanges(page.cursor(), 1, token);
+        assertThat(page.changed()).extracting(TaskResponse::title).containsExactly("Third");
+        assertThat(page.hasMore()).isFalse();
+    }
+
+    @Test
+    void keepsTheCursorIssueTimeUntilTheFeedIsDrained() {
+        save("First", List.of());
+        save("Second", List.of());
+        Instant issuedAt = Instant.now().minus(10, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+        String cursor = new TaskChangeCursor(-1L, 0L, issuedAt).encode();
+
+        TaskChangesResponse page = taskService.listChanges(cursor, 1, token);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(TaskChangeCursor.decode(page.cursor()).issuedAt()).isEqualTo(issuedAt);
+
+        page = taskService.listChanges(page.cursor(), 1, token);
+        assertThat(page.hasMore()).isFalse();
+        assertThat(TaskChangeCursor.decode(page.cursor()).issuedAt())
+                .isAfter(Instant.now().minus(1, ChronoUnit.MINUTES));
+    }
+
+    @Test
+    void deletingATagMarksItsTasksAsChanged() {
+        Tag tag = entityManager.persist(new Tag("work", entityManager.find(User.class,
+                Long.parseLong(token.getName()))));
+        save("Tagged", List.of(tag.getId().toString()));
+        save("Untagged", List.of());
+        String cursor = taskService.listChanges(null, 50, token).cursor();
+
+        tagService.deleteTag(tag.getId().toString(), token);
+        entityManager.clear();
+
+        assertThat(taskService.listChanges(cursor, 50, token).changed())
+                .extracting(TaskResponse::title).containsExactly("Tagged");
+    }
+
+    @Test
+    void deletingAnotherUsersTagLeavesItAndItsTasksUntouched() {
+        Tag tag = entityManager.persist(new Tag("work", entityManager.find(User.class,
+                Long.parseLong(token.getName()))));
+        save("Tagged", List.of(tag.getId().toString()));
+        String cursor = taskService.listChanges(null, 50, token).cursor();
+        User other = entityManager.persist(new User("John Doe", "john.doe@mail.com", "secret"));
+        JwtAuthenticationToken otherToken = new JwtAuthenticationToken(Jwt.withTokenValue("token")
+                .header("alg", "none").subject(other.getId().toString()).build());
+        events.clear();
+
+        assertThatThrownBy(() -> tagService.deleteTag(tag.getId().toString(), otherToken))
+                .isInstanceOf(TagNotFoundException.class);
+        entityManager.clear();
+
+        assertThat(entityManager.find(Tag.class, tag.getId())).isNotNull();
+        assertThat(taskService.listChanges(cursor, 50, token).changed()).isEmpty();
+        assertThat(events.stream(UserEvent.class)).isEmpty();
+    }
+
+    @Test
+    void batchPublishesOneDeletionForATaskChangedAndDeletedTogether() {
+        String draft = save("Draft", List.of()).id();
+        String kept = save("Kept", List.of()).id();
+        events.clear();
+
+        taskService.applyBatch(new TaskBatchRequest(List.of(
+                new TaskBatchOperation(TaskBatchAction.TOGGLE, draft, null),
+                new TaskBatchOperation(TaskBatchAction.UPDATE, draft,
+                        new TaskRequest("Draft v2", Priority.HIGH, null, null, null)),
+                new TaskBatchOperation(TaskBatchAction.DELETE, draft, null),
+                new TaskBatchOperation(TaskBatchAction.TOGGLE, kept, null))), token);
+
+        assertThat(events.stream(UserEvent.class))
+                .extracting(UserEvent::type, event -> event.payload().id())
+                .containsExactly(tuple(UserEventType.TASK_DELETED, draft),
+                        tuple(UserEventType.TASK_TOGGLED, kept));
+    }
+
+    @Test
+    void requiresAResetWhenTheCursorOutlivesTombstoneRetention() {
+        String stale = new TaskChangeCursor(0L, 0L, Instant.now().minus(400, ChronoUnit.DAYS))
+                .encode();
+
+        assertThat(taskService.listChanges(stale, 50, token).resetRequired()).isTrue();
+    }
+
+    private TaskResponse save(String title, List<String> tagIds) {
+        return taskService.saveTask(new TaskRequest(title, Priority.MEDIUM, null, null, tagIds),
+                token);
+    }
+}
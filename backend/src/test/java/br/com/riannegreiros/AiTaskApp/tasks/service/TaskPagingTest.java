@@ -0,0 +1,81 @@
+package br.com.riannegreiros.AiTaskApp.tasks.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import br.com.riannegreiros.AiTaskApp.auth.model.User;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskPageResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Priority;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Task;
+import br.com.riannegreiros.AiTaskApp.tasks.model.TaskSort;
+import br.com.riannegreiros.AiTaskApp.tasks.model.TaskStatus;
+
+class TaskPagingTest extends TaskServiceTestSupport {
+
+    private static final Priority[] PRIORITIES =
+            {Priority.CRITICAL, Priority.HIGH, Priority.MEDIUM, Priority.LOW, null};
+    private static final OffsetDateTime DUE = OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0,
+            ZoneOffset.UTC);
+
+    @BeforeEach
+    void setUp() {
+        User owner = entityManager.find(User.class, user.getId());
+        IntStream.range(0, 47).forEach(i -> {
+            Task task = new Task("Task " + i, PRIORITIES[i % PRIORITIES.length],
+                    i % 4 == 0 ? null : DUE.plusDays(i % 3), owner, null);
+            task.setCompleted(i % 3 == 0);
+            entityManager.persist(task);
+        });
+        entityManager.flush();
+        entityManager.getEntityManager().createNativeQuery("""
+                UPDATE tb_tasks SET priority_rank = CASE priority
+                    WHEN 'CRITICAL' THEN 4 WHEN 'HIGH' THEN 3 WHEN 'MEDIUM' THEN 2
+                    WHEN 'LOW' THEN 1 ELSE 0 END""").executeUpdate();
+        entityManager.clear();
+    }
+
+    @ParameterizedTest
+    @EnumSource(TaskSort.class)
+    void cursorWalksEveryTaskOnce(TaskSort sort) {
+        for (TaskStatus status : TaskStatus.values()) {
+            List<String> seen = new ArrayList<>();
+            String cursor = null;
+            do {
+                TaskPageResponse page =
+                        taskService.listUserTasks(sort, status, cursor, 4, tokenFor(user));
+                page.items().forEach(task -> seen.add(task.id()));
+                cursor = page.nextCursor();
+            } while (cursor != null);
+
+            assertThat(seen).as(status.name())
+                    .containsExactlyElementsOf(expectedIds(sort, status));
+        }
+    }
+
+    private List<String> expectedIds(TaskSort sort, TaskStatus status) {
+        List<Task> tasks = entityManager.getEntityManager()
+                .createQuery("SELECT t FROM Task t WHERE t.user.id = :userId", Task.class)
+                .setParameter("userId", user.getId()).getResultList();
+        Comparator<Task> order = switch (sort) {
+            case CREATED_AT -> Comparator.comparing(Task::getCreatedAt)
+                    .thenComparing(Task::getId).reversed();
+            case DUE_DATE -> Comparator.comparing(
+                    (Task task) -> task.getDueDate() == null ? null : task.getDueDate().toInstant(),
+                    Comparator.nullsLast(Comparator.naturalOrder())).thenComparing(Task::getId);
+            case PRIORITY -> Comparator
+                    .comparing((Task task) -> Priority.rankOf(task.getPriority()))
+                    .thenComparing(Task::getId).reversed();
+        };
+        return tasks.stream()
+                .filter(task -> status.completed() == null
+                        || task.isCompleted() == status.completed())
+                .sorted(order).map(task -> task.getId().toString()).toList();
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.riannegreiros.AiTaskApp.tasks.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import br.com.riannegreiros.AiTaskApp.auth.model.User;
+import br.com.riannegreiros.AiTaskApp.auth.service.PrincipalResolver;
+import br.com.riannegreiros.AiTaskApp.infra.exception.InvalidCursorException;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskPageResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskSearchHit;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Task;
+import br.com.riannegreiros.AiTaskApp.tasks.repository.TaskRepository;
+
+class TaskSearchCursorTest {
+
+    private record Hit(Long getId, Float getRank) implements TaskSearchHit {
+    }
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final PrincipalResolver principalResolver = mock(PrincipalResolver.class);
+    private final TaskService taskService = new TaskService(taskRepository, null,
+            principalResolver, null, null, null, 0, null);
+    private final JwtAuthenticationToken token = new JwtAuthenticationToken(
+            Jwt.withTokenValue("token").header("alg", "none").subject("1").build());
+
+    @Test
+    void encodesAndDecodesRankAndId() {
+        TaskSearchCursor cursor = TaskSearchCursor.of(new Hit(42L, 0.0607927f));
+
+        TaskSearchCursor decoded = TaskSearchCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(new TaskSearchCursor(0.0607927f, 42L));
+        assertThat(cursor.encode()).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void rejectsMalformedAndForeignCursors() {
+        assertThatThrownBy(() -> TaskSearchCursor.decode("not base64!"))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> TaskSearchCursor.decode(encode("RELEVANCE|0.5")))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> TaskSearchCursor.decode(encode("RELEVANCE|high|7")))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> TaskSearchCursor.decode(encode("CREATED_AT|0.5|7")))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void searchPagesWalkEveryHitOnceInRankOrder() {
+        List<Hit> hits = IntStream.rangeClosed(1, 23)
+                .mapToObj(id -> new Hit((long) id, (float) (id % 5) / 10)).sorted(Comparator
+                        .comparing(Hit::getRank).thenComparing(Hit::getId).reversed())
+                .toList();
+        when(principalResolver.userId(token)).thenReturn(1L);
+        when(taskRepository.search(eq(1L), eq("report"), anyInt()))
+                .thenAnswer(call -> List.copyOf(hits.subList(0, call.getArgument(2))));
+        when(taskRepository.searchAfter(eq(1L), eq("report"), anyFloat(), anyLong(), anyInt()))
+                .thenAnswer(call -> {
+                    float rank = call.getArgument(2);
+                    long id = call.getArgument(3);
+                    return hits.stream().filter(hit -> hit.getRank() < rank
+                            || hit.getRank() == rank && hit.getId() < id)
+                            .limit(call.<Integer>getArgument(4)).toList();
+                });
+        when(taskRepository.findAllByIdInAndUserId(anyCollection(), eq(1L)))
+                .thenAnswer(call -> call.<Collection<Long>>getArgument(0).stream()
+                        .map(TaskSearchCursorTest::task).toList());
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskPageResponse page = taskService.searchUserTasks("report", cursor, 5, token);
+            page.items().forEach(task -> seen.add(task.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyElementsOf(
+                hits.stream().map(hit -> hit.getId().toString()).toList());
+    }
+
+    private static Task task(Long id) {
+        User user = new User("Jane Doe", "jane.doe@mail.com", "secret");
+        user.setId(1L);
+        Task task = new Task("Task " + id, null, null, user, null);
+        task.setId(id);
+        return task;
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
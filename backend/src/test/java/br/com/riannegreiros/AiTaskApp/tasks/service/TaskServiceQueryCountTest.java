@@ -0,0 +1,57 @@
+package br.com.riannegreiros.AiTaskApp.tasks.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import br.com.riannegreiros.AiTaskApp.auth.model.User;
+import br.com.riannegreiros.AiTaskApp.tags.model.Tag;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskPageResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Priority;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Task;
+import br.com.riannegreiros.AiTaskApp.tasks.model.TaskSort;
+import br.com.riannegreiros.AiTaskApp.tasks.model.TaskStatus;
+
+class TaskServiceQueryCountTest extends TaskServiceTestSupport {
+
+    private Set<Tag> tags;
+    private int taskCount;
+
+    @BeforeEach
+    void setUp() {
+        tags = Set.of(entityManager.persist(new Tag("work", user)),
+                entityManager.persist(new Tag("urgent", user)));
+    }
+
+    @Test
+    void listUserTasksQueryCountDoesNotGrowWithTaskCount() {
+        long fewTasks = countListQueries(5);
+        long manyTasks = countListQueries(200);
+
+        assertThat(manyTasks).isEqualTo(fewTasks);
+    }
+
+    private long countListQueries(int totalTasks) {
+        User owner = entityManager.find(User.class, user.getId());
+        Set<Tag> ownerTags = Set.copyOf(tags.stream()
+                .map(tag -> entityManager.find(Tag.class, tag.getId())).toList());
+        IntStream.range(taskCount, totalTasks).forEach(i -> {
+            Task task = new Task("Task " + i, Priority.MEDIUM, null, owner, null);
+            task.setTags(ownerTags);
+            entityManager.persist(task);
+        });
+        taskCount = totalTasks;
+        entityManager.flush();
+        entityManager.clear();
+
+        TaskPageResponse[] page = new TaskPageResponse[1];
+        long statements = countStatements(() -> page[0] = taskService.listUserTasks(
+                TaskSort.CREATED_AT, TaskStatus.ALL, null, 200, tokenFor(user)));
+
+        assertThat(page[0].items()).hasSize(taskCount)
+                .allSatisfy(task -> assertThat(task.tags()).hasSize(tags.size()));
+        return statements;
+    }
+
+}
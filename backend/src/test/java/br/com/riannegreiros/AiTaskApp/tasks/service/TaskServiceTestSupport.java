@@ -0,0 +1,49 @@
+package br.com.riannegreiros.AiTaskApp.tasks.service;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import br.com.riannegreiros.AiTaskApp.auth.model.User;
+import br.com.riannegreiros.AiTaskApp.auth.service.PrincipalResolver;
+import br.com.riannegreiros.AiTaskApp.infra.version.CollectionVersionService;
+
+@DataJpaTest(properties = {"spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+@Import({TaskService.class, TaskStatsService.class, CollectionVersionService.class,
+        PrincipalResolver.class})
+abstract class TaskServiceTestSupport {
+
+    @Autowired
+    protected TestEntityManager entityManager;
+
+    @Autowired
+    protected TaskService taskService;
+
+    protected User user;
+
+    @BeforeEach
+    void persistUser() {
+        user = entityManager.persist(new User("Jane Doe", "jane.doe@mail.com", "secret"));
+    }
+
+    protected long countStatements(Runnable action) {
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    protected JwtAuthenticationToken tokenFor(User user) {
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "none")
+                .subject(user.getId().toString()).build();
+        return new JwtAuthenticationToken(jwt);
+    }
+}
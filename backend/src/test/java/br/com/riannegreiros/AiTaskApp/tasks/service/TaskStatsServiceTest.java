@@ -0,0 +1,120 @@
+package br.com.riannegreiros.AiTaskApp.tasks.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import br.com.riannegreiros.AiTaskApp.auth.model.User;
+import br.com.riannegreiros.AiTaskApp.auth.service.PrincipalResolver;
+import br.com.riannegreiros.AiTaskApp.infra.version.CollectionVersionService;
+import br.com.riannegreiros.AiTaskApp.tags.model.Tag;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TagUsage;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBatchAction;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBatchOperation;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskBatchRequest;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskRequest;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.TaskStatsResponse;
+import br.com.riannegreiros.AiTaskApp.tasks.dto.UpdateTaskRequest;
+import br.com.riannegreiros.AiTaskApp.tasks.model.Priority;
+
+@DataJpaTest(properties = {"spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"})
+@Import({TaskService.class, TaskStatsService.class, CollectionVersionService.class,
+        PrincipalResolver.class})
+class TaskStatsServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    private User user;
+    private JwtAuthenticationToken token;
+    private Tag work;
+    private Tag urgent;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(new User("Jane Doe", "jane.doe@mail.com", "secret"));
+        taskStatsService.initializeUser(user.getId());
+        work = entityManager.persist(new Tag("work", user));
+        urgent = entityManager.persist(new Tag("urgent", user));
+        taskStatsService.initializeTag(work);
+        taskStatsService.initializeTag(urgent);
+        token = new JwtAuthenticationToken(Jwt.withTokenValue("token").header("alg", "none")
+                .subject(user.getId().toString()).build());
+    }
+
+    @Test
+    void countersFollowEveryWriteAndMatchARebuild() {
+        String report = taskService.saveTask(new TaskRequest("Report", Priority.CRITICAL,
+                OffsetDateTime.now().minusDays(1), null, List.of(tagId(work))), token).id();
+        String review = taskService.saveTask(new TaskRequest("Review", Priority.LOW, null, null,
+                List.of(tagId(work), tagId(urgent))), token).id();
+        assertStats(2, 0, 1, 1, new TagUsage(work.getId(), "work", 2),
+                new TagUsage(urgent.getId(), "urgent", 1));
+
+        taskService.toggleTaskCompleted(report, token);
+        assertStats(2, 1, 0, 0, new TagUsage(work.getId(), "work", 2),
+                new TagUsage(urgent.getId(), "urgent", 1));
+
+        taskService.updateTask(review, new UpdateTaskRequest("Review", Priority.CRITICAL, null,
+                null, List.of(tagId(urgent))), token);
+        assertStats(2, 1, 1, 0, new TagUsage(urgent.getId(), "urgent", 1),
+                new TagUsage(work.getId(), "work", 1));
+
+        taskService.applyBatch(new TaskBatchRequest(List.of(
+                new TaskBatchOperation(TaskBatchAction.CREATE, null,
+                        new TaskRequest("Plan", Priority.HIGH, null, null, List.of(tagId(work)))),
+                new TaskBatchOperation(TaskBatchAction.TOGGLE, review, null),
+                new TaskBatchOperation(TaskBatchAction.DELETE, report, null),
+                new TaskBatchOperation(TaskBatchAction.UPDATE, review,
+                        new TaskRequest("Review", Priority.LOW, null, null, List.of("999"))))),
+                token);
+        assertStats(2, 1, 0, 0, new TagUsage(urgent.getId(), "urgent", 1),
+                new TagUsage(work.getId(), "work", 1));
+
+        TaskStatsResponse incremental = taskStatsService.getStats(token);
+        taskStatsService.rebuild(user.getId());
+        assertThat(taskStatsService.getStats(token)).isEqualTo(incremental);
+    }
+
+    @Test
+    void missingCountersAreRebuiltOnFirstWrite() {
+        User other = entityManager.persist(new User("John Doe", "john.doe@mail.com", "secret"));
+        JwtAuthenticationToken otherToken = new JwtAuthenticationToken(Jwt.withTokenValue("token")
+                .header("alg", "none").subject(other.getId().toString()).build());
+
+        taskService.saveTask(new TaskRequest("Task", Priority.MEDIUM, null, null, null), otherToken);
+
+        assertThat(taskStatsService.getStats(otherToken).total()).isEqualTo(1);
+    }
+
+    private void assertStats(long total, long completed, long criticalPending, long overdue,
+            TagUsage... tags) {
+        entityManager.flush();
+        entityManager.clear();
+        TaskStatsResponse stats = taskStatsService.getStats(token);
+        assertThat(stats.total()).isEqualTo(total);
+        assertThat(stats.completed()).isEqualTo(completed);
+        assertThat(stats.pending()).isEqualTo(total - completed);
+        assertThat(stats.criticalPending()).isEqualTo(criticalPending);
+        assertThat(stats.overdue()).isEqualTo(overdue);
+        assertThat(stats.tags()).containsExactly(tags);
+    }
+
+    private static String tagId(Tag tag) {
+        return tag.getId().toString();
+    }
+}
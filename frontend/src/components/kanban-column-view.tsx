@@ -2,7 +2,7 @@ import { GlassPanel } from './glass-panel'
 import { TodoItem } from './todo-item'
 import { ScrollArea } from '@/components/ui/scroll-area'
 import { cn, getColumnTasks } from '@/lib/utils'
-import { KANBAN_COLUMNS, DONE_PAGE_SIZE, type KanbanColumn } from '@/config/kanban'
+import { KANBAN_COLUMNS, BOARD_PAGE_SIZE, type KanbanColumn } from '@/config/kanban'
 import type { Task } from '@/types/task'
 import type { Tag as TagEntity } from '@/lib/api-tags'
 
@@ -11,8 +11,8 @@ interface KanbanColumnViewProps {
   colIndex: number
   todos: Task[]
   tags: TagEntity[]
-  doneVisible: number
-  onDoneMore: () => void
+  hiddenCounts: Record<string, number>
+  onLoadMore: (columnId: string) => void
   onToggle: (id: string) => void
   onDelete: (id: string) => void
   onUpdate: (
@@ -70,8 +70,8 @@ export function KanbanColumnView({
   colIndex,
   todos,
   tags,
-  doneVisible,
-  onDoneMore,
+  hiddenCounts,
+  onLoadMore,
   onToggle,
   onDelete,
   onUpdate,
@@ -86,8 +86,7 @@ export function KanbanColumnView({
 }: KanbanColumnViewProps) {
   const allTasks = getColumnTasks(todos, column.id)
 
-  const visibleTasks = column.id === 'done' ? allTasks.slice(0, doneVisible) : allTasks
-  const hasMore = column.id === 'done' && allTasks.length > doneVisible
+  const hiddenCount = hiddenCounts[column.id] ?? 0
 
   const handleDragOver = (e: React.DragEvent) => {
     if (!draggedTaskId) return
@@ -119,7 +118,7 @@ export function KanbanColumnView({
           column.color
         )}
       >
-        {allTasks.length}
+        {allTasks.length + hiddenCount}
       </span>
     </div>
   )
@@ -138,9 +137,9 @@ export function KanbanColumnView({
         </div>
       )}
 
-      {visibleTasks.length > 0 ? (
+      {allTasks.length > 0 ? (
         <>
-          {visibleTasks.map((todo, i) => {
+          {allTasks.map((todo, i) => {
             const isBeingDragged = draggedTaskId === todo.id
             return (
               <div
@@ -177,15 +176,15 @@ export function KanbanColumnView({
               </div>
             )
           })}
-          {hasMore && (
+          {hiddenCount > 0 && (
             <button
-              onClick={onDoneMore}
+              onClick={() => onLoadMore(column.id)}
               className={cn(
                 'text-muted-foreground/60 hover:text-muted-foreground rounded-xl border-2 border-dashed py-2 text-xs font-medium opacity-60 transition-all duration-200 hover:opacity-100',
                 column.borderColor
               )}
             >
-              Show {Math.min(DONE_PAGE_SIZE, allTasks.length - doneVisible)} more
+              Show {Math.min(BOARD_PAGE_SIZE, hiddenCount)} more
             </button>
           )}
         </>
@@ -4,13 +4,15 @@ import { cn, getColumnTasks } from '@/lib/utils'
 import { GlassPanel } from './glass-panel'
 import { TodoItem } from './todo-item'
 import { ScrollArea } from '@/components/ui/scroll-area'
-import { KANBAN_COLUMNS } from '@/config/kanban'
+import { KANBAN_COLUMNS, BOARD_PAGE_SIZE } from '@/config/kanban'
 import type { Task } from '@/types/task'
 import type { Tag as TagEntity } from '@/lib/api-tags'
 
 interface ListViewProps {
   todos: Task[]
   tags: TagEntity[]
+  hiddenCounts: Record<string, number>
+  onLoadMore: (columnId: string) => void
   onToggle: (id: string) => void
   onDelete: (id: string) => void
   onUpdate: (
@@ -28,6 +30,8 @@ interface ListGroupProps {
   icon: React.ReactNode
   tasks: Task[]
   tags: TagEntity[]
+  hiddenCount: number
+  onLoadMore: (columnId: string) => void
   isDragOver: boolean
   isDoneGroup?: boolean
   onToggle: (id: string) => void
@@ -51,6 +55,8 @@ function ListGroup({
   icon,
   tasks,
   tags,
+  hiddenCount,
+  onLoadMore,
   isDragOver,
   isDoneGroup,
   onToggle,
@@ -92,7 +98,7 @@ function ListGroup({
         <span className={cn('flex items-center', color)}>{icon}</span>
         <h3 className="text-foreground text-sm font-semibold">{label}</h3>
         <span className="bg-foreground/8 text-muted-foreground flex h-5 min-w-5 items-center justify-center rounded-full px-1.5 text-xs font-semibold">
-          {tasks.length}
+          {tasks.length + hiddenCount}
         </span>
       </button>
 
@@ -133,6 +139,14 @@ function ListGroup({
               </div>
             ))
           )}
+          {hiddenCount > 0 && (
+            <button
+              onClick={() => onLoadMore(columnId)}
+              className="text-muted-foreground/60 hover:text-muted-foreground border-border rounded-xl border border-dashed py-2 text-xs font-medium transition-colors duration-150"
+            >
+              Show {Math.min(BOARD_PAGE_SIZE, hiddenCount)} more
+            </button>
+          )}
         </div>
       )}
     </section>
@@ -142,6 +156,8 @@ function ListGroup({
 export function ListView({
   todos,
   tags,
+  hiddenCounts,
+  onLoadMore,
   onToggle,
   onDelete,
   onUpdate,
@@ -205,6 +221,8 @@ export function ListView({
               icon={column.icon}
               tasks={tasks}
               tags={tags}
+              hiddenCount={hiddenCounts[column.id] ?? 0}
+              onLoadMore={onLoadMore}
               isDragOver={dragOverGroup === column.id}
               isDoneGroup={column.id === 'done'}
               onToggle={onToggle}
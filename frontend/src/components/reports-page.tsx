@@ -1,26 +1,92 @@
-import { useState, useEffect } from 'react'
-import { ArrowLeft, Sparkles, ChevronDown } from 'lucide-react'
+import { useState, useEffect, useCallback } from 'react'
+import { ArrowLeft, Sparkles, ChevronDown, Wand2 } from 'lucide-react'
 import { Link } from 'react-router-dom'
 import { toast } from 'sonner'
 import Markdown from 'react-markdown'
 import { GlassPanel } from './glass-panel'
-import { getAllReports, type Report } from '@/lib/api-reports'
+import { getReport, getReports, streamReport, type ReportSummary } from '@/lib/api-reports'
 
 export function ReportsPage() {
-  const [reports, setReports] = useState<Report[]>([])
+  const [reports, setReports] = useState<ReportSummary[]>([])
+  const [nextCursor, setNextCursor] = useState<string | null>(null)
+  const [contents, setContents] = useState<Record<number, string>>({})
   const [isLoading, setIsLoading] = useState(true)
+  const [isLoadingMore, setIsLoadingMore] = useState(false)
   const [expandedId, setExpandedId] = useState<number | null>(null)
+  const [streamingText, setStreamingText] = useState<string | null>(null)
 
-  useEffect(() => {
-    getAllReports()
-      .then((data) => {
-        setReports(data)
-        if (data.length > 0) setExpandedId(data[0].id)
-      })
+  const expand = useCallback((id: number | null) => {
+    setExpandedId(id)
+    if (id === null) return
+    getReport(id)
+      .then((report) => setContents((prev) => ({ ...prev, [id]: report.content })))
       .catch((err) => toast.error(err.message))
-      .finally(() => setIsLoading(false))
   }, [])
 
+  const loadReports = useCallback(
+    () =>
+      getReports()
+        .then((page) => {
+          setReports(page.items)
+          setNextCursor(page.nextCursor)
+          if (page.items.length > 0) expand(page.items[0].id)
+        })
+        .catch((err) => toast.error(err.message)),
+    [expand]
+  )
+
+  const loadMore = () => {
+    setIsLoadingMore(true)
+    getReports(nextCursor)
+      .then((page) => {
+        setReports((prev) => [...prev, ...page.items])
+        setNextCursor(page.nextCursor)
+      })
+      .catch((err) => toast.error(err.message))
+      .finally(() => setIsLoadingMore(false))
+  }
+
+  useEffect(() => {
+    loadReports().finally(() => setIsLoading(false))
+  }, [loadReports])
+
+  const generateReport = async () => {
+    setStreamingText('')
+    try {
+      await streamReport((text) => setStreamingText((prev) => (prev ?? '') + text))
+      await loadReports()
+    } catch (err) {
+      toast.error((err as Error).message)
+    } finally {
+      setStreamingText(null)
+    }
+  }
+
+  const generateButton = (
+    <button
+      onClick={generateReport}
+      disabled={streamingText !== null}
+      className="bg-glass-bg/60 border-glass-border text-muted-foreground hover:text-foreground hover:bg-glass-bg ml-auto flex items-center gap-1.5 rounded-full border px-3 py-1.5 text-xs backdrop-blur-xl transition-all duration-200 disabled:opacity-50"
+    >
+      <Wand2 className="size-3.5" />
+      {streamingText !== null ? 'Generating...' : 'Generate'}
+    </button>
+  )
+
+  const streamingPanel = streamingText !== null && (
+    <GlassPanel>
+      <div className="px-5 py-5">
+        <div className="prose prose-sm dark:prose-invert text-foreground/80 max-w-none">
+          {streamingText ? (
+            <Markdown>{streamingText}</Markdown>
+          ) : (
+            <p className="text-muted-foreground/60 text-sm">Analyzing your week...</p>
+          )}
+        </div>
+      </div>
+    </GlassPanel>
+  )
+
   const formatDate = (iso: string) =>
     new Date(iso).toLocaleDateString('en-US', {
       month: 'short',
@@ -66,7 +132,9 @@ export function ReportsPage() {
           <h1 className="font-display text-foreground text-3xl font-semibold tracking-tight">
             Weekly Reports
           </h1>
+          {generateButton}
         </header>
+        {streamingPanel}
         <GlassPanel>
           <div className="flex flex-col items-center gap-4 py-14">
             <p className="text-muted-foreground/60 text-sm">No reports available yet</p>
@@ -90,16 +158,20 @@ export function ReportsPage() {
             Weekly Reports
           </h1>
           <p className="text-muted-foreground/50 mt-0.5 text-xs">
-            {reports.length} report{reports.length !== 1 ? 's' : ''}
+            {reports.length}
+            {nextCursor ? '+' : ''} report{reports.length !== 1 || nextCursor ? 's' : ''}
           </p>
         </div>
+        {generateButton}
       </header>
 
+      {streamingPanel}
+
       <div className="flex flex-col gap-3">
         {reports.map((report, index) => (
           <GlassPanel key={report.id}>
             <button
-              onClick={() => setExpandedId(expandedId === report.id ? null : report.id)}
+              onClick={() => expand(expandedId === report.id ? null : report.id)}
               className="flex w-full items-center justify-between p-5 text-left transition-opacity hover:opacity-80"
             >
               <div className="flex items-center gap-3">
@@ -111,6 +183,11 @@ export function ReportsPage() {
                     {getWeekLabel(report.createdAt, index)}
                   </h2>
                   <p className="text-muted-foreground/50 text-xs">{formatDate(report.createdAt)}</p>
+                  {expandedId !== report.id && (
+                    <p className="text-muted-foreground/70 mt-1 line-clamp-2 text-xs">
+                      {report.excerpt}
+                    </p>
+                  )}
                 </div>
               </div>
               <ChevronDown
@@ -122,12 +199,25 @@ export function ReportsPage() {
             {expandedId === report.id && (
               <div className="border-glass-border/60 border-t px-5 pt-4 pb-5">
                 <div className="prose prose-sm dark:prose-invert text-foreground/80 max-w-none">
-                  <Markdown>{report.content}</Markdown>
+                  {contents[report.id] !== undefined ? (
+                    <Markdown>{contents[report.id]}</Markdown>
+                  ) : (
+                    <p className="text-muted-foreground/60 text-sm">Loading report...</p>
+                  )}
                 </div>
               </div>
             )}
           </GlassPanel>
         ))}
+        {nextCursor && (
+          <button
+            onClick={loadMore}
+            disabled={isLoadingMore}
+            className="bg-glass-bg/60 border-glass-border text-muted-foreground hover:text-foreground hover:bg-glass-bg mx-auto rounded-full border px-4 py-1.5 text-xs backdrop-blur-xl transition-all duration-200 disabled:opacity-50"
+          >
+            {isLoadingMore ? 'Loading...' : 'Load older reports'}
+          </button>
+        )}
       </div>
     </div>
   )
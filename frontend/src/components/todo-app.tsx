@@ -8,10 +8,19 @@ import { KanbanColumnView, KanbanSkeleton } from './kanban-column-view'
 import { KanbanTabStrip } from './kanban-tab-strip'
 import { ListView } from './list-view'
 import { useAuth } from './auth-context'
-import { createTask, deleteTask, getTasks, setTaskCompleted, updateTask } from '@/lib/api-tasks'
+import {
+  createTask,
+  deleteTask,
+  getBoard,
+  getBoardColumn,
+  setTaskCompleted,
+  updateTask,
+  type TaskBoardColumn,
+} from '@/lib/api-tasks'
 import { getTags, type Tag as TagEntity } from '@/lib/api-tags'
-import { KANBAN_COLUMNS, DONE_PAGE_SIZE } from '@/config/kanban'
-import { cn } from '@/lib/utils'
+import { subscribeToEvents } from '@/lib/api-events'
+import { KANBAN_COLUMNS, BOARD_PAGE_SIZE } from '@/config/kanban'
+import { cn, getColumnTasks } from '@/lib/utils'
 import { ScrollArea } from '@/components/ui/scroll-area'
 import { useIsMobile } from '@/hooks/use-mobile'
 import { useViewMode } from '@/hooks/use-view-mode'
@@ -33,7 +42,8 @@ export function TodoApp() {
   const [todos, setTodos] = useState<Task[]>([])
   const [tags, setTags] = useState<TagEntity[]>([])
   const [isLoading, setIsLoading] = useState(true)
-  const [doneVisible, setDoneVisible] = useState(DONE_PAGE_SIZE)
+  const [hiddenCounts, setHiddenCounts] = useState<Record<string, number>>({})
+  const [cursors, setCursors] = useState<Record<string, string | null>>({})
   const [activeColIndex, setActiveColIndex] = useState(0)
   const isMobile = useIsMobile()
   const { viewMode, setViewMode } = useViewMode()
@@ -41,16 +51,70 @@ export function TodoApp() {
   const [draggedTaskId, setDraggedTaskId] = useState<string | null>(null)
   const [dragOverColumn, setDragOverColumn] = useState<string | null>(null)
 
+  const applyBoard = (columns: TaskBoardColumn[]) => {
+    setTodos(columns.flatMap((col) => col.items.map(mapApiTask)))
+    setHiddenCounts(
+      Object.fromEntries(
+        columns.map((col) => [col.column.toLowerCase(), col.count - col.items.length])
+      )
+    )
+    setCursors(Object.fromEntries(columns.map((col) => [col.column.toLowerCase(), col.nextCursor])))
+  }
+
   useEffect(() => {
-    Promise.all([getTasks(), getTags()])
-      .then(([tasksData, tagsData]) => {
-        setTodos(tasksData.map(mapApiTask))
+    Promise.all([getBoard(BOARD_PAGE_SIZE), getTags()])
+      .then(([boardData, tagsData]) => {
+        applyBoard(boardData)
         setTags(tagsData)
       })
       .catch(() => toast.error('Failed to load data'))
       .finally(() => setIsLoading(false))
   }, [])
 
+  useEffect(() => {
+    const controller = new AbortController()
+    let retry: ReturnType<typeof setTimeout> | undefined
+
+    const connect = () => {
+      subscribeToEvents((name, payload) => {
+        if (name === 'task.deleted') {
+          setTodos((prev) => prev.filter((t) => t.id !== payload.id))
+        } else if (name === 'tag.deleted') {
+          setTags((prev) => prev.filter((t) => t.id !== payload.id))
+          setTodos((prev) =>
+            prev.map((t) => ({ ...t, tags: t.tags.filter((tag) => String(tag.id) !== payload.id) }))
+          )
+        } else if (name === 'tag.created' && payload.tag) {
+          const tag = payload.tag
+          setTags((prev) => [...prev.filter((t) => t.id !== tag.id), tag])
+        } else if (payload.task) {
+          const task = mapApiTask(payload.task)
+          setTodos((prev) =>
+            prev.some((t) => t.id === task.id)
+              ? prev.map((t) => (t.id === task.id ? task : t))
+              : [task, ...prev]
+          )
+        }
+      }, controller.signal)
+        .catch(() => undefined)
+        .finally(() => {
+          if (controller.signal.aborted) return
+          retry = setTimeout(() => {
+            getBoard(BOARD_PAGE_SIZE)
+              .then(applyBoard)
+              .catch(() => undefined)
+            connect()
+          }, 5000)
+        })
+    }
+
+    connect()
+    return () => {
+      controller.abort()
+      clearTimeout(retry)
+    }
+  }, [])
+
   const handleCreateTask = async (
     title: string,
     priority: Priority,
@@ -66,7 +130,7 @@ export function TodoApp() {
         tagIds: taskTags.map((t) => t.id.toString()),
         description: description || undefined,
       })
-      setTodos((prev) => [mapApiTask(data), ...prev])
+      setTodos((prev) => [mapApiTask(data), ...prev.filter((t) => t.id !== data.id)])
       toast.success('Task created')
     } catch {
       toast.error('Failed to create task')
@@ -89,8 +153,9 @@ export function TodoApp() {
       await deleteTask(id)
       toast.success('Task deleted')
     } catch {
-      const data = await getTasks().catch(() => [])
-      setTodos(data.map(mapApiTask))
+      await getBoard(BOARD_PAGE_SIZE)
+        .then(applyBoard)
+        .catch(() => undefined)
       toast.error('Failed to delete task')
     }
   }
@@ -143,6 +208,23 @@ export function TodoApp() {
     }
   }
 
+  const handleLoadMore = async (columnId: string) => {
+    const cursor = cursors[columnId]
+    if (!cursor) return
+    try {
+      const page = await getBoardColumn(columnId, cursor, BOARD_PAGE_SIZE)
+      const items = page.items.map(mapApiTask)
+      setTodos((prev) => [...prev, ...items.filter((t) => !prev.some((p) => p.id === t.id))])
+      setHiddenCounts((prev) => ({
+        ...prev,
+        [columnId]: Math.max(0, (prev[columnId] ?? 0) - items.length),
+      }))
+      setCursors((prev) => ({ ...prev, [columnId]: page.nextCursor }))
+    } catch {
+      toast.error('Failed to load tasks')
+    }
+  }
+
   const handleKanbanDragStart = (taskId: string) => {
     setDraggedTaskId(taskId)
   }
@@ -162,8 +244,8 @@ export function TodoApp() {
   const columnProps = {
     todos,
     tags,
-    doneVisible,
-    onDoneMore: () => setDoneVisible((n) => n + DONE_PAGE_SIZE),
+    hiddenCounts,
+    onLoadMore: handleLoadMore,
     onToggle: handleToggleTask,
     onDelete: handleDeleteTask,
     onUpdate: handleUpdateTask,
@@ -178,12 +260,14 @@ export function TodoApp() {
     onDrop: handleKanbanDrop,
   }
 
-  const colTaskCount = (id: string) =>
-    id === 'done'
-      ? todos.filter((t) => t.completed).length
-      : todos.filter((t) => !t.completed && t.priority === id).length
+  const colTaskCount = (id: string) => getColumnTasks(todos, id).length + (hiddenCounts[id] ?? 0)
 
   const taskCounts = Object.fromEntries(KANBAN_COLUMNS.map((col) => [col.id, colTaskCount(col.id)]))
+  const completedCount = taskCounts.done ?? 0
+  const remainingCount = KANBAN_COLUMNS.reduce(
+    (sum, col) => (col.id === 'done' ? sum : sum + taskCounts[col.id]),
+    0
+  )
 
   const activeColumn = KANBAN_COLUMNS[activeColIndex]
 
@@ -305,14 +389,14 @@ export function TodoApp() {
         </div>
       )}
 
-      {todos.length > 0 && (
+      {remainingCount + completedCount > 0 && (
         <div className="mt-2 flex items-center justify-center gap-4 md:mt-3">
           <p className="text-muted-foreground/70 text-xs">
-            {todos.filter((t) => !t.completed).length} remaining
+            {remainingCount} remaining
           </p>
           <span className="text-muted-foreground/50">|</span>
           <p className="text-muted-foreground/70 text-xs">
-            {todos.filter((t) => t.completed).length} completed
+            {completedCount} completed
           </p>
         </div>
       )}
@@ -2,7 +2,7 @@ import { Flag, CheckCircle2, Inbox } from 'lucide-react'
 import type { Priority } from '@/types/task'
 import { PRIORITY_CONFIG } from './priority'
 
-export const DONE_PAGE_SIZE = 10
+export const BOARD_PAGE_SIZE = 20
 
 export interface KanbanColumn {
   id: Priority | 'done'
@@ -0,0 +1,56 @@
+import type { Task } from '@/types/task'
+import type { Tag } from './api-tags'
+import { apiFetch } from './api'
+
+export type UserEventName =
+  | 'task.created'
+  | 'task.updated'
+  | 'task.toggled'
+  | 'task.deleted'
+  | 'task.due'
+  | 'task.overdue'
+  | 'tag.created'
+  | 'tag.deleted'
+
+export interface UserEventPayload {
+  id: string
+  changeSeq: number | null
+  task: Task | null
+  tag: Tag | null
+}
+
+export async function subscribeToEvents(
+  onEvent: (name: UserEventName, payload: UserEventPayload) => void,
+  signal: AbortSignal
+): Promise<void> {
+  const res = await apiFetch('/api/events/me/stream', {
+    headers: { Accept: 'text/event-stream' },
+    signal,
+  })
+  if (!res.ok || !res.body) throw new Error('Failed to subscribe to events')
+
+  const reader = res.body.pipeThrough(new TextDecoderStream()).getReader()
+  let buffer = ''
+
+  while (true) {
+    const { value, done } = await reader.read()
+    if (done) return
+    buffer += value
+
+    let boundary
+    while ((boundary = buffer.indexOf('\n\n')) !== -1) {
+      const lines = buffer.slice(0, boundary).split('\n')
+      buffer = buffer.slice(boundary + 2)
+
+      const name = lines.find((l) => l.startsWith('event:'))?.slice(6)
+      const data = lines
+        .filter((l) => l.startsWith('data:'))
+        .map((l) => l.slice(5))
+        .join('\n')
+      if (!name || !data || name === 'ready') continue
+      if (name === 'overflow') return
+
+      onEvent(name as UserEventName, JSON.parse(data))
+    }
+  }
+}
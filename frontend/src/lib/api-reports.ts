@@ -6,14 +6,75 @@ export interface Report {
   createdAt: string
 }
 
-export async function getAllReports(): Promise<Report[]> {
-  const res = await apiFetch('/api/reports/me')
+export interface ReportSummary {
+  id: number
+  excerpt: string
+  createdAt: string
+}
+
+export interface ReportPage {
+  items: ReportSummary[]
+  nextCursor: string | null
+}
+
+export async function getReports(cursor?: string | null): Promise<ReportPage> {
+  const params = new URLSearchParams({ size: '20' })
+  if (cursor) params.set('cursor', cursor)
+  const res = await apiFetch(`/api/reports/me?${params}`)
   if (!res.ok) throw new Error('Failed to fetch reports')
   return res.json()
 }
 
+export async function getReport(id: number): Promise<Report> {
+  const res = await apiFetch(`/api/reports/me/${id}`)
+  if (!res.ok) throw new Error('Failed to fetch report')
+  return res.json()
+}
+
 export async function getLatestReport(): Promise<Report> {
   const res = await apiFetch('/api/reports/me/latest')
   if (!res.ok) throw new Error('Failed to fetch latest report')
   return res.json()
 }
+
+interface ReportStreamEvent {
+  text: string | null
+  reportId: number | null
+  error: string | null
+}
+
+export async function streamReport(onText: (text: string) => void): Promise<number | null> {
+  const res = await apiFetch('/api/reports/me/stream', {
+    headers: { Accept: 'text/event-stream' },
+  })
+  if (!res.ok || !res.body) throw new Error('Failed to generate report')
+
+  const reader = res.body.pipeThrough(new TextDecoderStream()).getReader()
+  let buffer = ''
+
+  while (true) {
+    const { value, done } = await reader.read()
+    if (done) break
+    buffer += value
+
+    let boundary
+    while ((boundary = buffer.indexOf('\n\n')) !== -1) {
+      const lines = buffer.slice(0, boundary).split('\n')
+      buffer = buffer.slice(boundary + 2)
+
+      const name = lines.find((l) => l.startsWith('event:'))?.slice(6)
+      const data = lines
+        .filter((l) => l.startsWith('data:'))
+        .map((l) => l.slice(5))
+        .join('\n')
+      if (!data) continue
+
+      const event: ReportStreamEvent = JSON.parse(data)
+      if (name === 'token' && event.text) onText(event.text)
+      if (name === 'error') throw new Error(event.error ?? 'Failed to generate report')
+      if (name === 'done') return event.reportId
+    }
+  }
+
+  return null
+}
@@ -1,8 +1,27 @@
 import type { Task } from '@/types/task'
 import { apiFetch } from './api'
 
-export async function getTasks() {
-  const res = await apiFetch('/api/tasks/me')
+export interface TaskBoardColumn {
+  column: string
+  count: number
+  items: Task[]
+  nextCursor: string | null
+}
+
+export async function getBoard(size: number): Promise<TaskBoardColumn[]> {
+  const res = await apiFetch(`/api/tasks/me/board?size=${size}`)
+  if (!res.ok) throw new Error('Failed to fetch board')
+  const board: { columns: TaskBoardColumn[] } = await res.json()
+  return board.columns
+}
+
+export async function getBoardColumn(
+  column: string,
+  cursor: string,
+  size: number
+): Promise<{ items: Task[]; nextCursor: string | null }> {
+  const params = new URLSearchParams({ cursor, size: String(size) })
+  const res = await apiFetch(`/api/tasks/me/board/${column.toUpperCase()}?${params}`)
   if (!res.ok) throw new Error('Failed to fetch tasks')
   return res.json()
 }